@@ -1,3 +1,6 @@
+import org.gradle.process.ExecOperations
+import javax.inject.Inject
+
 plugins {
 	kotlin("jvm") version "1.9.22"
 	id("org.springframework.boot") version "3.4.2"
@@ -86,3 +89,50 @@ tasks.withType<Jar> {
 tasks.named<org.springframework.boot.gradle.tasks.bundling.BootJar>("bootJar") {
 	duplicatesStrategy = DuplicatesStrategy.EXCLUDE
 }
+
+// ✅ 정적 CSS / JS 미리 압축 (.gz, `-Pstartreum.brotli=true`면 brotli CLI로 .br도 생성)
+// - 서버는 요청마다 압축하지 않고 이 파일을 그대로 전송
+// - brotli 사용 여부는 빌드 머신의 PATH가 아니라 명시한 프로퍼티(태스크 입력)로만 정하므로 빌드 결과가 재현 가능
+abstract class CompressStaticResources : DefaultTask() {
+	@get:InputDirectory
+	@get:PathSensitive(PathSensitivity.RELATIVE)
+	abstract val staticDir: DirectoryProperty
+
+	@get:Input
+	abstract val brotli: Property<Boolean>
+
+	@get:OutputDirectory
+	abstract val outputDir: DirectoryProperty
+
+	@get:Inject
+	abstract val execOperations: ExecOperations
+
+	@TaskAction
+	fun compress() {
+		val root = staticDir.get().asFile
+		val output = outputDir.get().asFile.resolve("static")
+		output.deleteRecursively()
+		root.walkTopDown()
+			.filter { it.isFile }
+			.map { it to it.relativeTo(root).invariantSeparatorsPath }
+			.filter { (_, path) -> (path.startsWith("css/") && path.endsWith(".css")) || (path.startsWith("js/") && path.endsWith(".js")) }
+			.forEach { (source, path) ->
+				val gzipped = output.resolve("$path.gz")
+				gzipped.parentFile.mkdirs()
+				java.util.zip.GZIPOutputStream(gzipped.outputStream()).use { out -> source.inputStream().use { it.copyTo(out) } }
+				if (brotli.get()) {
+					execOperations.exec { commandLine("brotli", "--force", "--best", "--output=${output.resolve("$path.br")}", source.path) }
+				}
+			}
+	}
+}
+
+val compressStaticResources by tasks.registering(CompressStaticResources::class) {
+	staticDir.set(layout.projectDirectory.dir("src/main/resources/static"))
+	brotli.set(providers.gradleProperty("startreum.brotli").map(String::toBoolean).orElse(false))
+	outputDir.set(layout.buildDirectory.dir("generated/compressed-static"))
+}
+
+tasks.processResources {
+	from(compressStaticResources)
+}
@@ -1,14 +1,64 @@
 package funding.startreum
 
+import funding.startreum.domain.project.ProjectHomeService
+import jakarta.servlet.ServletContext
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.context.ApplicationContext
+import org.springframework.http.CacheControl
+import org.springframework.http.MediaType
+import org.springframework.http.ResponseEntity
 import org.springframework.stereotype.Controller
 import org.springframework.web.bind.annotation.GetMapping
+import org.thymeleaf.ITemplateEngine
+import org.thymeleaf.context.WebContext
+import org.thymeleaf.spring6.expression.ThymeleafEvaluationContext
+import org.thymeleaf.web.servlet.JakartaServletWebApplication
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicReference
 
+/**
+ * 메인 페이지 컨트롤러.
+ * - 트렌딩 / 마감 임박 프로젝트 카드를 서버에서 미리 렌더링 (메모리 스냅샷 사용, 요청당 DB 조회 없음).
+ * - 렌더링된 HTML은 스냅샷 버전이 바뀔 때만 다시 만들고, 짧은 Cache-Control로 응답.
+ */
 @Controller
-class MainController {
+class MainController(
+    private val projectHomeService: ProjectHomeService,
+    private val templateEngine: ITemplateEngine,
+    private val applicationContext: ApplicationContext,
+    servletContext: ServletContext
+) {
+    private class RenderedPage(val version: Long, val html: String)
 
-    @GetMapping("/")
-    fun showMainPage(): String {
-        return "main"
+    private val application = JakartaServletWebApplication.buildApplication(servletContext)
+    private val rendered = AtomicReference<RenderedPage?>()
+
+    @GetMapping("/", produces = [MediaType.TEXT_HTML_VALUE])
+    fun showMainPage(request: HttpServletRequest, response: HttpServletResponse): ResponseEntity<String> {
+        val snapshot = projectHomeService.snapshot()
+        val page = rendered.get()?.takeIf { it.version == snapshot.version }
+            ?: RenderedPage(snapshot.version, render(snapshot, request, response)).also { rendered.set(it) }
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.TEXT_HTML)
+            .cacheControl(CacheControl.maxAge(HOME_MAX_AGE).cachePublic())
+            .body(page.html)
+    }
+
+    private fun render(snapshot: ProjectHomeService.Snapshot, request: HttpServletRequest, response: HttpServletResponse): String {
+        val context = WebContext(application.buildExchange(request, response), request.locale)
+        // ✅ 템플릿의 ${@bean} 참조를 위해 Spring 평가 컨텍스트 등록
+        context.setVariable(
+            ThymeleafEvaluationContext.THYMELEAF_EVALUATION_CONTEXT_CONTEXT_VARIABLE_NAME,
+            ThymeleafEvaluationContext(applicationContext, null)
+        )
+        context.setVariable("trending", snapshot.trending)
+        context.setVariable("endingSoon", snapshot.endingSoon)
+        return templateEngine.process("main", context)
+    }
+
+    companion object {
+        private val HOME_MAX_AGE = Duration.ofSeconds(5)
     }
-    
 }
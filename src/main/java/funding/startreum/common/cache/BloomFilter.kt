@@ -0,0 +1,90 @@
+package funding.startreum.common.cache
+
+import java.util.concurrent.atomic.AtomicLongArray
+import kotlin.math.ceil
+import kotlin.math.ln
+import kotlin.math.max
+import kotlin.math.roundToInt
+
+/**
+ * 문자열 Bloom 필터 (스레드 안전, 추가만 가능).
+ * - [mightContain]이 false면 확실히 없음, true면 있을 수도 있음(오탐률 ≈ [falsePositiveRate]).
+ * - 예상 개수를 넘겨 추가할수록 오탐률이 올라가므로, 쓰는 쪽이 주기적으로 새로 만들어야 합니다.
+ *
+ * @param expectedInsertions 예상 항목 수
+ * @param falsePositiveRate  목표 오탐률
+ */
+class BloomFilter(expectedInsertions: Int, falsePositiveRate: Double) {
+
+    private val bitCount: Long
+    private val hashCount: Int
+    private val words: AtomicLongArray
+
+    init {
+        require(expectedInsertions > 0) { "expectedInsertions는 0보다 커야 합니다." }
+        require(falsePositiveRate > 0 && falsePositiveRate < 1) { "falsePositiveRate는 0과 1 사이여야 합니다." }
+
+        val bits = ceil(-expectedInsertions * ln(falsePositiveRate) / (ln(2.0) * ln(2.0))).toLong()
+        words = AtomicLongArray(((bits + 63) / 64).toInt())
+        bitCount = words.length() * 64L
+        hashCount = max(1, (bitCount.toDouble() / expectedInsertions * ln(2.0)).roundToInt())
+    }
+
+    fun add(value: String) {
+        val hash = hash(value)
+        var combined = hash
+        repeat(hashCount) {
+            setBit(Math.floorMod(combined, bitCount))
+            combined += (hash ushr 32) or 1L // double hashing
+        }
+    }
+
+    fun mightContain(value: String): Boolean {
+        val hash = hash(value)
+        var combined = hash
+        repeat(hashCount) {
+            if (!getBit(Math.floorMod(combined, bitCount))) {
+                return false
+            }
+            combined += (hash ushr 32) or 1L
+        }
+        return true
+    }
+
+    /**
+     * 메모리 사용량 (바이트)
+     */
+    fun sizeInBytes(): Long = words.length() * 8L
+
+    private fun setBit(index: Long) {
+        val word = (index ushr 6).toInt()
+        val mask = 1L shl (index and 63).toInt()
+        while (true) {
+            val current = words[word]
+            if (current and mask != 0L || words.compareAndSet(word, current, current or mask)) {
+                return
+            }
+        }
+    }
+
+    private fun getBit(index: Long): Boolean =
+        words[(index ushr 6).toInt()] and (1L shl (index and 63).toInt()) != 0L
+
+    companion object {
+        private const val FNV_OFFSET = -0x340d631b7bdddcdbL
+        private const val FNV_PRIME = 0x100000001b3L
+
+        /**
+         * FNV-1a 64비트 해시 + 비트 섞기
+         */
+        private fun hash(value: String): Long {
+            var hash = FNV_OFFSET
+            for (c in value) {
+                hash = (hash xor c.code.toLong()) * FNV_PRIME
+            }
+            hash = (hash xor (hash ushr 33)) * -0xae502812aa7333L
+            hash = (hash xor (hash ushr 33)) * -0x3b314601e57a13adL
+            return hash xor (hash ushr 33)
+        }
+    }
+}
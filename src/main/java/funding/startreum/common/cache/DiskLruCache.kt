@@ -0,0 +1,153 @@
+package funding.startreum.common.cache
+
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.channels.FileChannel
+import java.nio.file.Files
+import java.nio.file.NoSuchFileException
+import java.nio.file.Path
+import java.nio.file.StandardCopyOption
+import java.nio.file.StandardOpenOption
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import kotlin.io.path.fileSize
+import kotlin.io.path.getLastModifiedTime
+import kotlin.io.path.isRegularFile
+import kotlin.io.path.listDirectoryEntries
+import kotlin.io.path.name
+
+/**
+ * 전체 용량 제한을 가진 디스크 파일 캐시 (LRU).
+ * - 키 하나가 파일 하나. 파일은 임시 파일에 쓴 뒤 이동하므로 읽는 쪽이 반쯤 쓴 파일을 보지 않음.
+ * - 같은 키를 동시에 만들면 한 번만 만들고 결과를 공유합니다. (single-flight)
+ * - 총 용량을 넘으면 가장 오래 안 쓴 파일부터 삭제합니다. 재시작 시 기존 파일은 수정 시각 순으로 다시 등록.
+ * - 파일은 삭제와 같은 잠금 안에서 연 채널로 돌려주므로, 전송 중에 밀려나도 열린 채널로 끝까지 읽을 수 있음.
+ *
+ * @param directory 캐시 디렉터리
+ * @param maxBytes  전체 파일 크기 합의 상한
+ */
+class DiskLruCache(
+    private val directory: Path,
+    private val maxBytes: Long
+) {
+    fun interface Writer {
+        @Throws(IOException::class)
+        fun write(target: Path)
+    }
+
+    private val sizes = LinkedHashMap<String, Long>(16, 0.75f, true) // 접근 순서
+    private val inflight = ConcurrentHashMap<String, CompletableFuture<Path>>()
+    private var totalBytes = 0L
+
+    init {
+        Files.createDirectories(directory)
+        directory.listDirectoryEntries()
+            .filter { it.isRegularFile() }
+            .sortedBy { it.getLastModifiedTime() }
+            .forEach { file ->
+                if (file.name.endsWith(TEMP_SUFFIX)) Files.deleteIfExists(file) else record(file.name, file.fileSize())
+            }
+        evictIfNeeded()
+    }
+
+    /**
+     * 키에 해당하는 파일을 읽기 채널로 열어 반환하거나, 없으면 writer로 만들어 저장한 뒤 엽니다.
+     * 경로 대신 열린 채널을 주므로 다른 스레드가 파일을 밀어내도 읽기에 영향이 없습니다. (호출자가 닫음)
+     *
+     * @param key 파일 이름으로 쓰이므로 영문/숫자/`-`/`.`만 허용
+     */
+    fun open(key: String, writer: Writer): FileChannel {
+        require(KEY_PATTERN.matches(key)) { "잘못된 캐시 키입니다: $key" }
+
+        val path = directory.resolve(key)
+        while (true) {
+            openIfCached(key, path)?.let { return it }
+
+            val created = CompletableFuture<Path>()
+            val existing = inflight.putIfAbsent(key, created)
+            if (existing != null) {
+                await(existing) // 다 만들어지면 다시 열어 봄
+                continue
+            }
+            try {
+                val channel = write(key, path, writer)
+                created.complete(path)
+                return channel
+            } catch (e: Throwable) {
+                created.completeExceptionally(e)
+                throw e
+            } finally {
+                inflight.remove(key, created)
+            }
+        }
+    }
+
+    @Synchronized
+    fun totalBytes(): Long = totalBytes
+
+    @Synchronized
+    fun size(): Int = sizes.size
+
+    private fun write(key: String, path: Path, writer: Writer): FileChannel {
+        val temp = directory.resolve("$key.${System.nanoTime()}$TEMP_SUFFIX")
+        try {
+            writer.write(temp)
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE)
+        } catch (e: IOException) {
+            Files.deleteIfExists(temp)
+            throw UncheckedIOException(e)
+        }
+        synchronized(this) {
+            record(key, Files.size(path))
+            val channel = FileChannel.open(path, StandardOpenOption.READ) // 밀려나기 전에 열어 둠
+            evictIfNeeded()
+            return channel
+        }
+    }
+
+    /**
+     * 등록된 파일이면 최근 사용으로 표시하고 삭제와 같은 잠금 안에서 엽니다.
+     */
+    @Synchronized
+    private fun openIfCached(key: String, path: Path): FileChannel? {
+        if (sizes[key] == null) {
+            return null
+        }
+        return try {
+            FileChannel.open(path, StandardOpenOption.READ)
+        } catch (e: NoSuchFileException) {
+            // 캐시 밖에서 지워진 파일은 등록을 지우고 다시 만듦
+            sizes.remove(key)?.let { totalBytes -= it }
+            null
+        }
+    }
+
+    private fun record(key: String, bytes: Long) {
+        sizes.put(key, bytes)?.let { totalBytes -= it }
+        totalBytes += bytes
+    }
+
+    private fun evictIfNeeded() {
+        val iterator = sizes.entries.iterator()
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            val eldest = iterator.next()
+            iterator.remove()
+            totalBytes -= eldest.value
+            Files.deleteIfExists(directory.resolve(eldest.key))
+        }
+    }
+
+    private fun await(future: CompletableFuture<Path>): Path {
+        try {
+            return future.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    companion object {
+        private const val TEMP_SUFFIX = ".tmp"
+        private val KEY_PATTERN = Regex("[A-Za-z0-9][A-Za-z0-9.-]*")
+    }
+}
@@ -0,0 +1,140 @@
+package funding.startreum.common.cache
+
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.ConcurrentLinkedQueue
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+import java.util.function.Supplier
+
+/**
+ * 크기 제한 + TTL을 가진 메모리 캐시.
+ * - 같은 키로 동시에 들어온 요청은 한 번만 로딩하고 결과를 공유합니다. (single-flight)
+ * - 로딩 중 예외가 나면 캐시에 남기지 않고 모든 대기자에게 그대로 전달합니다.
+ * - 용량을 넘으면 먼저 들어온 항목부터 제거합니다.
+ *
+ * @param name    메트릭 태그로 쓰일 캐시 이름
+ * @param maxSize 최대 항목 수
+ * @param ttl     항목 유효 시간
+ */
+class SingleFlightCache<K : Any, V : Any>(
+    val name: String,
+    private val maxSize: Int,
+    private val ttl: Duration
+) {
+    private class Entry<K, V>(val key: K, val future: CompletableFuture<V>, val expiresAt: Long)
+
+    private val entries = ConcurrentHashMap<K, Entry<K, V>>()
+    private val insertionOrder = ConcurrentLinkedQueue<Entry<K, V>>()
+    private val queued = AtomicInteger()
+
+    private val hits = LongAdder()
+    private val misses = LongAdder()
+    private val evictions = LongAdder()
+
+    /**
+     * 캐시된 값을 반환하거나, 없으면 loader로 한 번만 읽어 저장합니다.
+     */
+    fun get(key: K, loader: Supplier<V>): V {
+        val now = System.nanoTime()
+        val cached = entries[key]
+        if (cached != null && cached.expiresAt - now > 0) {
+            hits.increment()
+            return await(cached.future)
+        }
+
+        val created = Entry(key, CompletableFuture<V>(), now + ttl.toNanos())
+        val winner = entries.compute(key) { _, existing ->
+            if (existing != null && existing.expiresAt - now > 0) existing else created
+        }!!
+
+        if (winner !== created) {
+            hits.increment() // 다른 요청이 이미 로딩 중이거나 방금 저장함
+            return await(winner.future)
+        }
+
+        misses.increment()
+        insertionOrder.add(created)
+        queued.incrementAndGet()
+        try {
+            created.future.complete(loader.get())
+        } catch (e: Throwable) {
+            entries.remove(key, created)
+            created.future.completeExceptionally(e)
+            throw e
+        }
+        evictIfNeeded()
+        return created.future.join()
+    }
+
+    /**
+     * 로딩이 끝난 유효한 값만 반환합니다. (없거나 로딩 중이면 null, 로딩하지 않음)
+     */
+    fun getIfPresent(key: K): V? {
+        val cached = entries[key] ?: return null
+        if (cached.expiresAt - System.nanoTime() <= 0 || !cached.future.isDone || cached.future.isCompletedExceptionally) {
+            return null
+        }
+        hits.increment()
+        return cached.future.join()
+    }
+
+    fun invalidate(key: K) {
+        entries.remove(key)
+    }
+
+    fun invalidateAll() {
+        entries.clear()
+        insertionOrder.clear()
+        queued.set(0)
+    }
+
+    fun size(): Int = entries.size
+
+    fun hitRatio(): Double {
+        val h = hits.sum()
+        val total = h + misses.sum()
+        return if (total == 0L) 0.0 else h.toDouble() / total
+    }
+
+    /**
+     * Micrometer 표준 캐시 메트릭 이름(cache.gets, cache.size ...)으로 등록합니다.
+     */
+    fun bindTo(registry: MeterRegistry): SingleFlightCache<K, V> {
+        FunctionCounter.builder("cache.gets", hits) { it.sum().toDouble() }
+            .tag("cache", name).tag("result", "hit").register(registry)
+        FunctionCounter.builder("cache.gets", misses) { it.sum().toDouble() }
+            .tag("cache", name).tag("result", "miss").register(registry)
+        FunctionCounter.builder("cache.evictions", evictions) { it.sum().toDouble() }
+            .tag("cache", name).register(registry)
+        Gauge.builder("cache.size", entries) { it.size.toDouble() }
+            .tag("cache", name).register(registry)
+        Gauge.builder("cache.hit.ratio", this) { it.hitRatio() }
+            .tag("cache", name).register(registry)
+        return this
+    }
+
+    private fun evictIfNeeded() {
+        // 만료 후 다시 들어온 키는 큐에 이전 항목이 남으므로 큐 길이도 함께 제한
+        while (entries.size > maxSize || queued.get() > maxSize * 2) {
+            val oldest = insertionOrder.poll() ?: return
+            queued.decrementAndGet()
+            if (entries.remove(oldest.key, oldest)) {
+                evictions.increment()
+            }
+        }
+    }
+
+    private fun await(future: CompletableFuture<V>): V {
+        try {
+            return future.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package funding.startreum.common.cache
+
+import jakarta.servlet.ServletContext
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import org.springframework.web.context.request.RequestContextHolder
+import org.springframework.web.context.request.ServletRequestAttributes
+import org.thymeleaf.ITemplateEngine
+import org.thymeleaf.context.WebContext
+import org.thymeleaf.web.servlet.JakartaServletWebApplication
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 요청마다 내용이 같은 정적 프래그먼트(header, searchbar)의 렌더링 결과 캐시.
+ * - 템플릿에서 `th:utext="${@staticFragments.render('fragments/header', 'header')}"` 로 사용.
+ * - 프로세스 메모리에만 두므로 배포(재기동)하면 비워짐. 프래그먼트를 바꿔도 따로 무효화할 필요 없음.
+ * - 사용자별 내용(로그인 상태 등)은 프래그먼트 안의 스크립트가 처리하므로 캐시해도 안전.
+ */
+@Component("staticFragments")
+class StaticFragmentCache(
+    private val templateEngine: ITemplateEngine,
+    servletContext: ServletContext,
+    @Value("\${startreum.fragment-cache.enabled:false}") private val enabled: Boolean
+) {
+    private val application = JakartaServletWebApplication.buildApplication(servletContext)
+    private val rendered = ConcurrentHashMap<String, String>()
+
+    fun render(template: String, fragment: String): String {
+        if (!enabled) {
+            return renderNow(template, fragment)
+        }
+        return rendered.computeIfAbsent("$template::$fragment") { renderNow(template, fragment) }
+    }
+
+    fun clear() {
+        rendered.clear()
+    }
+
+    private fun renderNow(template: String, fragment: String): String {
+        val attributes = RequestContextHolder.currentRequestAttributes() as ServletRequestAttributes
+        val exchange = application.buildExchange(attributes.request, attributes.response)
+        return templateEngine.process(template, setOf(fragment), WebContext(exchange, attributes.request.locale))
+    }
+}
@@ -0,0 +1,66 @@
+package funding.startreum.common.cache
+
+import java.time.Duration
+
+/**
+ * 만료 시각 추적용 타이밍 휠.
+ * - 만료 시각을 tick 단위로 나눠 고정 크기 슬롯 배열에 넣고, [advance]가 지나간 슬롯만 훑어 만료된 항목을 꺼냅니다.
+ *   전체를 정렬하거나 훑지 않으므로 추가/만료 처리가 항목 수와 상관없이 가볍습니다.
+ * - 휠 한 바퀴(tick × slots)보다 먼 만료는 같은 슬롯에 두고, 만료 tick이 될 때까지 지나갈 때마다 남겨 둠.
+ *
+ * @param tick  시간 해상도 (만료는 최대 tick만큼 늦게 감지)
+ * @param slots 슬롯 수
+ * @param clock 현재 시각 (밀리초)
+ */
+class TimingWheel<T>(
+    tick: Duration,
+    private val slots: Int,
+    private val clock: () -> Long = System::currentTimeMillis
+) {
+    private class Timer<T>(val item: T, val expiresAtTick: Long)
+
+    private val tickMillis = tick.toMillis()
+    private val buckets = Array(slots) { ArrayList<Timer<T>>() }
+    private var cursor = clock() / tickMillis // 마지막으로 처리한 tick
+    private var size = 0
+
+    init {
+        require(tickMillis > 0 && slots > 0) { "tick과 slots는 0보다 커야 합니다." }
+    }
+
+    /**
+     * @param expiresAtMillis 만료 시각 (밀리초, 이미 지났으면 다음 [advance]에서 꺼냄)
+     */
+    @Synchronized
+    fun schedule(item: T, expiresAtMillis: Long) {
+        val expiresAtTick = maxOf(Math.floorDiv(expiresAtMillis + tickMillis - 1, tickMillis), cursor + 1)
+        buckets[Math.floorMod(expiresAtTick, slots.toLong()).toInt()].add(Timer(item, expiresAtTick))
+        size++
+    }
+
+    /**
+     * 현재 시각까지 만료된 항목을 꺼냅니다.
+     */
+    @Synchronized
+    fun advance(): List<T> {
+        val now = clock() / tickMillis
+        if (now <= cursor) {
+            return emptyList()
+        }
+
+        val expired = ArrayList<T>()
+        val steps = minOf(now - cursor, slots.toLong()) // 한 바퀴 넘게 밀렸으면 전체 한 번만
+        for (step in 1..steps) {
+            val bucket = buckets[Math.floorMod(cursor + step, slots.toLong()).toInt()]
+            bucket.removeIf { timer ->
+                (timer.expiresAtTick <= now).also { if (it) expired.add(timer.item) }
+            }
+        }
+        cursor = now
+        size -= expired.size
+        return expired
+    }
+
+    @Synchronized
+    fun size(): Int = size
+}
@@ -4,6 +4,7 @@ import JwtAuthenticationFilter
 import funding.startreum.common.util.JwtUtil
 import funding.startreum.domain.users.service.CustomUserDetailsService
 import jakarta.servlet.http.HttpServletResponse
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
 import org.springframework.http.HttpMethod
@@ -23,16 +24,19 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource
 @Configuration
 @EnableMethodSecurity(prePostEnabled = true) // ✅ Spring Security 메소드 보안 활성화
 open class SecurityConfig(
-    private val customUserDetailsService: CustomUserDetailsService
+    private val customUserDetailsService: CustomUserDetailsService,
+    private val jwtUtil: JwtUtil,
+    @Value("\${startreum.auth.stateless-jwt:true}") private val statelessJwt: Boolean,
+    @Value("\${startreum.password.bcrypt-strength:10}") private val bcryptStrength: Int
 ) {
 
-    // ✅ 비밀번호 암호화 설정
+    // ✅ 비밀번호 암호화 설정 (비용을 올리면 기존 해시는 로그인 시 다시 해시됨)
     @Bean
-    open fun passwordEncoder(): PasswordEncoder = BCryptPasswordEncoder()
+    open fun passwordEncoder(): PasswordEncoder = BCryptPasswordEncoder(bcryptStrength)
 
     @Bean
     open fun jwtAuthenticationFilter(): JwtAuthenticationFilter {
-        return JwtAuthenticationFilter(JwtUtil(), customUserDetailsService)
+        return JwtAuthenticationFilter(jwtUtil, customUserDetailsService, statelessJwt)
     }
 
 
@@ -54,10 +58,15 @@ open class SecurityConfig(
 
                     // ✅ 검색 API를 인증 없이 허용
                     .requestMatchers(HttpMethod.GET, "/api/projects/search").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/projects/suggest").permitAll()
                     .requestMatchers(HttpMethod.GET, "/projects/search").permitAll()
 
                     // ✅ 프로젝트 상세 API는 인증 없이 접근 가능
                     .requestMatchers(HttpMethod.GET, "/api/projects/{projectId}").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/projects/{projectId}/description").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/projects/{projectId}/similar").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/projects/{projectId}/page").permitAll()
+                    .requestMatchers(HttpMethod.GET, "/api/projects/{projectId}/banner").permitAll()
 
                     // ✅ 프로젝트 상세 페이지(View)는 인증 없이 접근 가능
                     .requestMatchers(HttpMethod.GET, "/projects/{projectId}").permitAll()
@@ -81,6 +90,10 @@ open class SecurityConfig(
                     // ✅ 관리자 전용 API는 ROLE_ADMIN 필요
                     .requestMatchers("/api/admin/**").hasAuthority("ROLE_ADMIN")
 
+                    // ✅ 헬스 체크는 공개, 메트릭 등 나머지 actuator는 관리자만
+                    .requestMatchers("/actuator/health").permitAll()
+                    .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
+
                     .requestMatchers("/admin/project").permitAll()
 
                     .requestMatchers("/profile/{name}").permitAll()  // ✅ 프로필 뷰는 인증 없이 접근 가능
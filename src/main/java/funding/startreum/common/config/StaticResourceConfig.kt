@@ -0,0 +1,63 @@
+package funding.startreum.common.config
+
+import jakarta.servlet.http.HttpServletRequest
+import jakarta.servlet.http.HttpServletResponse
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.context.annotation.Bean
+import org.springframework.context.annotation.Configuration
+import org.springframework.http.CacheControl
+import org.springframework.http.HttpHeaders
+import org.springframework.web.servlet.HandlerInterceptor
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer
+import org.springframework.web.servlet.resource.EncodedResourceResolver
+import org.springframework.web.servlet.resource.ResourceUrlEncodingFilter
+import org.springframework.web.servlet.resource.VersionResourceResolver
+import java.time.Duration
+
+/**
+ * CSS / JS 정적 파일 설정.
+ * - 파일 내용 해시를 URL에 넣고(`/css/main-<md5>.css`), 내용이 바뀌면 URL도 바뀌므로 1년 immutable 캐시.
+ * - 해시 없는 URL(`/css/main.css`)은 같은 URL로 내용이 바뀌므로 no-cache (매번 ETag/Last-Modified로 재검증).
+ * - 템플릿의 `@{/css/...}`, `@{/js/...}`는 ResourceUrlEncodingFilter가 해시 URL로 바꿔줌.
+ * - 빌드 시 만들어 둔 `.br`(`-Pstartreum.brotli=true`로 빌드한 경우) / `.gz` 파일이 있으면 Accept-Encoding에 맞춰 그대로 전송 (요청마다 압축하지 않음).
+ */
+@Configuration
+open class StaticResourceConfig(
+    @Value("\${spring.web.resources.chain.cache:true}") private val cacheResources: Boolean
+) : WebMvcConfigurer {
+
+    override fun addResourceHandlers(registry: ResourceHandlerRegistry) {
+        for (dir in VERSIONED_DIRS) {
+            registry.addResourceHandler("/$dir/**")
+                .addResourceLocations("classpath:/static/$dir/")
+                .resourceChain(cacheResources)
+                .addResolver(EncodedResourceResolver())
+                .addResolver(VersionResourceResolver().addContentVersionStrategy("/**"))
+        }
+    }
+
+    // ✅ 해시 URL 여부에 따라 Cache-Control 지정 (리소스 핸들러에는 캐시 설정을 두지 않음)
+    override fun addInterceptors(registry: InterceptorRegistry) {
+        registry.addInterceptor(object : HandlerInterceptor {
+            override fun preHandle(request: HttpServletRequest, response: HttpServletResponse, handler: Any): Boolean {
+                val cacheControl = if (VERSIONED_PATH.matches(request.requestURI)) IMMUTABLE else CacheControl.noCache()
+                response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.headerValue)
+                return true
+            }
+        }).addPathPatterns(VERSIONED_DIRS.map { "/$it/**" })
+    }
+
+    // ✅ 템플릿에서 만든 정적 파일 URL을 해시 URL로 변환
+    @Bean
+    open fun resourceUrlEncodingFilter(): ResourceUrlEncodingFilter = ResourceUrlEncodingFilter()
+
+    companion object {
+        private val VERSIONED_DIRS = listOf("css", "js")
+        private val IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable()
+
+        // 파일 이름 끝에 붙은 내용 해시 (`main-<md5>.css`)
+        private val VERSIONED_PATH = Regex(".*-[0-9a-f]{32}\\.[^/]+")
+    }
+}
@@ -0,0 +1,63 @@
+package funding.startreum.common.ratelimit
+
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 키(사용자 + 대상)별 최근 글의 SimHash 지문을 보관하고, 거의 같은 글이 다시 오면 걸러냅니다.
+ * - 키마다 최근 [perKey]개의 지문만 보관하고, [window]가 지난 지문은 무시/정리.
+ *
+ * @param maxDistance 이 해밍 거리 이하면 같은 글로 판단
+ */
+class RecentContentFilter(
+    private val window: Duration,
+    private val perKey: Int,
+    private val maxDistance: Int,
+    private val maxKeys: Int,
+    private val clock: () -> Long = System::nanoTime
+) {
+    private class Recent(val fingerprints: LongArray, val times: LongArray, var next: Int = 0)
+
+    private val recent = ConcurrentHashMap<String, Recent>()
+
+    /**
+     * 최근에 거의 같은 글이 없으면 지문을 기록하고 true를 반환합니다.
+     */
+    fun tryRecord(key: String, content: String): Boolean {
+        val fingerprint = SimHash.fingerprint(content)
+        val now = clock()
+        if (recent.size >= maxKeys && !recent.containsKey(key)) {
+            purge(now)
+        }
+        val entry = recent.computeIfAbsent(key) { Recent(LongArray(perKey), LongArray(perKey) { Long.MIN_VALUE }) }
+
+        synchronized(entry) {
+            for (i in 0 until perKey) {
+                if (isLive(entry.times[i], now) && SimHash.distance(entry.fingerprints[i], fingerprint) <= maxDistance) {
+                    return false
+                }
+            }
+            entry.fingerprints[entry.next] = fingerprint
+            entry.times[entry.next] = now
+            entry.next = (entry.next + 1) % perKey
+        }
+        return true
+    }
+
+    fun size(): Int = recent.size
+
+    /**
+     * 모든 지문이 만료된 키를 지우고, 그래도 상한을 넘으면 임의의 키를 지웁니다.
+     */
+    fun purge(now: Long = clock()) {
+        recent.entries.removeIf { (_, entry) -> synchronized(entry) { entry.times.none { isLive(it, now) } } }
+        val iterator = recent.keys.iterator()
+        while (recent.size >= maxKeys && iterator.hasNext()) {
+            iterator.next()
+            iterator.remove()
+        }
+    }
+
+    private fun isLive(time: Long, now: Long): Boolean =
+        time != Long.MIN_VALUE && now - time < window.toNanos()
+}
@@ -0,0 +1,58 @@
+package funding.startreum.common.ratelimit
+
+import java.util.Locale
+
+/**
+ * 64비트 SimHash 지문.
+ * - 공백/기호를 정리한 글자 3-gram마다 64비트 해시를 구해 비트별로 더하고 빼서 지문을 만듭니다.
+ * - 내용이 조금만 다르면 지문도 몇 비트만 다르므로, 해밍 거리로 거의 같은 글을 찾을 수 있음.
+ */
+object SimHash {
+
+    private const val SHINGLE_SIZE = 3
+    private const val MAX_TEXT_LENGTH = 5_000
+    private const val FNV_OFFSET = -0x340d631b7bdddcdbL
+    private const val FNV_PRIME = 0x100000001b3L
+
+    fun fingerprint(text: String): Long {
+        val normalized = normalize(text)
+        if (normalized.length < SHINGLE_SIZE) {
+            return hash(normalized, 0, normalized.length)
+        }
+
+        val weights = IntArray(64)
+        for (start in 0..normalized.length - SHINGLE_SIZE) {
+            val hash = hash(normalized, start, start + SHINGLE_SIZE)
+            for (bit in 0 until 64) {
+                weights[bit] += if ((hash ushr bit) and 1L == 1L) 1 else -1
+            }
+        }
+
+        var fingerprint = 0L
+        for (bit in 0 until 64) {
+            if (weights[bit] > 0) fingerprint = fingerprint or (1L shl bit)
+        }
+        return fingerprint
+    }
+
+    fun distance(a: Long, b: Long): Int = java.lang.Long.bitCount(a xor b)
+
+    private fun normalize(text: String): String =
+        text.take(MAX_TEXT_LENGTH)
+            .replace(Regex("[^\\p{L}\\p{N}]+"), " ")
+            .trim()
+            .lowercase(Locale.ROOT)
+
+    /**
+     * FNV-1a 64비트 해시 + 비트 섞기 (짧은 입력도 비트가 고르게 퍼지도록)
+     */
+    private fun hash(text: String, from: Int, to: Int): Long {
+        var hash = FNV_OFFSET
+        for (i in from until to) {
+            hash = (hash xor text[i].code.toLong()) * FNV_PRIME
+        }
+        hash = (hash xor (hash ushr 33)) * -0xae502812aa7333L
+        hash = (hash xor (hash ushr 33)) * -0x3b314601e57a13adL
+        return hash xor (hash ushr 33)
+    }
+}
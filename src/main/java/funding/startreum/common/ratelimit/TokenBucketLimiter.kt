@@ -0,0 +1,67 @@
+package funding.startreum.common.ratelimit
+
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicReference
+
+/**
+ * 키(사용자)별 토큰 버킷.
+ * - 버킷 상태(남은 토큰, 마지막 갱신 시각)를 불변 객체로 두고 CAS로 교체하므로 잠금 없음.
+ * - 가득 찬 버킷은 지워도 결과가 같으므로, 오래 안 쓴 버킷은 정리해 맵 크기를 제한.
+ *
+ * @param capacity        최대 토큰 수 (연속으로 허용되는 요청 수)
+ * @param refillPerSecond 초당 채워지는 토큰 수
+ * @param maxKeys         보관할 최대 키 수
+ */
+class TokenBucketLimiter(
+    private val capacity: Double,
+    private val refillPerSecond: Double,
+    private val maxKeys: Int,
+    private val clock: () -> Long = System::nanoTime
+) {
+    private class State(val tokens: Double, val updatedAt: Long)
+
+    private val buckets = ConcurrentHashMap<String, AtomicReference<State>>()
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @return 토큰이 없으면 false
+     */
+    fun tryAcquire(key: String): Boolean {
+        val now = clock()
+        if (buckets.size >= maxKeys && !buckets.containsKey(key)) {
+            purge(now)
+        }
+        val bucket = buckets.computeIfAbsent(key) { AtomicReference(State(capacity, now)) }
+
+        while (true) {
+            val current = bucket.get()
+            val tokens = refilled(current, now)
+            if (tokens < 1.0) {
+                return false
+            }
+            if (bucket.compareAndSet(current, State(tokens - 1.0, now))) {
+                return true
+            }
+        }
+    }
+
+    fun size(): Int = buckets.size
+
+    /**
+     * 다시 가득 찬 버킷을 지우고, 그래도 상한을 넘으면 임의의 버킷을 지웁니다. (지워진 키는 가득 찬 상태로 다시 시작)
+     */
+    fun purge(now: Long = clock()) {
+        buckets.entries.removeIf { refilled(it.value.get(), now) >= capacity }
+        val iterator = buckets.keys.iterator()
+        while (buckets.size >= maxKeys && iterator.hasNext()) {
+            iterator.next()
+            iterator.remove()
+        }
+    }
+
+    private fun refilled(state: State, now: Long): Double {
+        val elapsedSeconds = (now - state.updatedAt).coerceAtLeast(0) / 1_000_000_000.0
+        return minOf(capacity, state.tokens + elapsedSeconds * refillPerSecond)
+    }
+}
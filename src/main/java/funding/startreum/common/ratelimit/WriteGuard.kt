@@ -0,0 +1,66 @@
+package funding.startreum.common.ratelimit
+
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.http.HttpStatus
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.time.Duration
+
+/**
+ * 댓글/문의 작성 남용 방지.
+ * - 사용자별 토큰 버킷으로 작성 빈도를 제한하고, 같은 사용자가 같은 대상에 거의 같은 글(SimHash)을 반복하면 거절.
+ * - 컨트롤러에서 DB 조회(사용자, 프로젝트) 전에 호출하므로, 거절된 요청은 DB에 닿지 않음.
+ * - 통과한 글의 지문은 바로 기록하므로, 저장이 실패한 뒤 같은 글을 다시 보내면 잠시 거절될 수 있음.
+ */
+@Component
+class WriteGuard(
+    private val meterRegistry: MeterRegistry,
+    @Value("\${startreum.write-limit.capacity:5}") capacity: Int,
+    @Value("\${startreum.write-limit.refill-per-minute:6}") refillPerMinute: Int,
+    @Value("\${startreum.write-limit.duplicate-window:PT10M}") duplicateWindow: Duration
+) {
+    /**
+     * @param status 거절 시 응답 상태 (빈도 제한은 나중에 다시 시도할 수 있으므로 429, 중복은 다시 보내도 같으므로 409)
+     */
+    enum class Verdict(val status: HttpStatus, val message: String) {
+        ALLOWED(HttpStatus.OK, ""),
+        RATE_LIMITED(HttpStatus.TOO_MANY_REQUESTS, "작성 요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+        DUPLICATE(HttpStatus.CONFLICT, "최근에 작성한 글과 거의 같은 내용입니다.")
+    }
+
+    private val limiter = TokenBucketLimiter(capacity.toDouble(), refillPerMinute / 60.0, MAX_KEYS)
+    private val duplicates = RecentContentFilter(duplicateWindow, RECENT_PER_KEY, MAX_DISTANCE, MAX_KEYS)
+
+    /**
+     * @param user    작성자 (사용자 이름 또는 이메일)
+     * @param target  작성 대상 (예: `comment:12`, `inquiry`)
+     * @param content 작성 내용
+     */
+    fun check(user: String, target: String, content: String): Verdict {
+        val verdict = when {
+            !limiter.tryAcquire(user) -> Verdict.RATE_LIMITED
+            !duplicates.tryRecord("$user|$target", content) -> Verdict.DUPLICATE
+            else -> Verdict.ALLOWED
+        }
+        if (verdict != Verdict.ALLOWED) {
+            meterRegistry.counter("write.rejected", "reason", verdict.name.lowercase()).increment()
+        }
+        return verdict
+    }
+
+    /**
+     * 다시 가득 찬 버킷과 만료된 지문 정리 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60_000)
+    fun purge() {
+        limiter.purge()
+        duplicates.purge()
+    }
+
+    companion object {
+        private const val MAX_KEYS = 100_000
+        private const val RECENT_PER_KEY = 8
+        private const val MAX_DISTANCE = 3
+    }
+}
@@ -10,6 +10,7 @@ import org.slf4j.Logger
 import org.slf4j.LoggerFactory
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken
 import org.springframework.security.core.context.SecurityContextHolder
+import org.springframework.security.core.userdetails.User
 import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource
 import org.springframework.stereotype.Component
@@ -17,10 +18,18 @@ import org.springframework.stereotype.Component
 import org.springframework.web.filter.OncePerRequestFilter
 import java.io.IOException
 
+/**
+ * JWT 인증 필터.
+ * - uid/ver 클레임이 있는 토큰은 서명·만료 검증 후 토큰 버전만 메모리에서 확인하고, DB 조회 없이 클레임으로 인증.
+ * - 버전을 메모리에서 확인할 수 없으면 PK 조회 1회로 확인, 클레임이 없는 이전 토큰은 이름으로 사용자를 조회.
+ *
+ * @param stateless false면 항상 DB에서 사용자를 조회 (startreum.auth.stateless-jwt)
+ */
 @Component
 open class JwtAuthenticationFilter(
     private val jwtUtil: JwtUtil,
-    private val userDetailsService: CustomUserDetailsService // ✅ 명확한 타입 지정
+    private val userDetailsService: CustomUserDetailsService, // ✅ 명확한 타입 지정
+    private val stateless: Boolean = true
 ) : OncePerRequestFilter() {
 
     private val logger: Logger = LoggerFactory.getLogger(JwtAuthenticationFilter::class.java)
@@ -65,20 +74,17 @@ open class JwtAuthenticationFilter(
 
         val token = header.replace("Bearer ", "")
 
-        // ✅ JWT에서 사용자명 추출
-        val username: String? = try {
-            jwtUtil.getNameFromToken(token)?.trim()
-        } catch (e: Exception) {
-            logger.warn("❌ JWT token extraction failed: ${e.message}", e)
-            filterChain.doFilter(request, response)
-            return
-        }
+        // ✅ JWT 검증 (서명·만료) 및 클레임 추출 - 한 번만 파싱
+        val claims = jwtUtil.getClaims(token)
+        val subject = claims?.subject?.trim()
+        val username = subject?.lowercase()
 
-        if (username == null) {
+        if (claims == null || subject == null || username == null) {
             logger.warn("⚠️ Invalid JWT token, username is null for URI: $requestURI")
             filterChain.doFilter(request, response)
             return
         }
+        jwtUtil.attach(request, token, claims)
 
         // ✅ 이미 인증된 사용자인 경우 필터 통과
         if (SecurityContextHolder.getContext().authentication != null) {
@@ -88,11 +94,27 @@ open class JwtAuthenticationFilter(
         }
 
         try {
-            // ✅ 데이터베이스에서 사용자 정보 조회
-            val userDetails: UserDetails = userDetailsService.loadUserByUsername(username)
+            val userId = (claims[JwtUtil.CLAIM_USER_ID] as? Number)?.toInt()
+            val tokenVersion = (claims[JwtUtil.CLAIM_TOKEN_VERSION] as? Number)?.toInt()
+            val role = claims.get("role", String::class.java)
+
+            val userDetails: UserDetails? = when {
+                // ✅ 토큰 버전이 메모리 기록과 같으면 DB 조회 없이 클레임으로 인증
+                stateless && userId != null && tokenVersion != null && role != null &&
+                        userDetailsService.isCurrentTokenVersion(userId, tokenVersion) ->
+                    User.withUsername(subject).password("").authorities(role).build() // 발급 당시 이름 그대로
+
+                // ✅ 버전 기록이 없거나 다르면 DB에서 확인 (PK 조회)
+                stateless && userId != null && tokenVersion != null ->
+                    userDetailsService.loadUserIfTokenCurrent(userId, tokenVersion)
+                        ?.takeIf { it.username.equals(username, ignoreCase = true) }
+
+                // ✅ 이전 형식 토큰: 데이터베이스에서 이름으로 조회
+                else -> userDetailsService.loadUserByUsername(username)
+                    .takeIf { it.username.equals(username, ignoreCase = true) }
+            }
 
-            // ✅ JWT 유효성 검증 및 SecurityContext 설정
-            if (jwtUtil.validateToken(token, userDetails)) {
+            if (userDetails != null) {
                 val authentication = UsernamePasswordAuthenticationToken(
                     userDetails, null, userDetails.authorities
                 )
@@ -1,18 +1,39 @@
 package funding.startreum.common.util
 
+import funding.startreum.common.cache.SingleFlightCache
+import io.jsonwebtoken.Claims
+import io.jsonwebtoken.ExpiredJwtException
+import io.jsonwebtoken.JwtParser
 import io.jsonwebtoken.Jwts
 import io.jsonwebtoken.SignatureAlgorithm
 import io.jsonwebtoken.security.Keys
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.servlet.http.HttpServletRequest
 import org.slf4j.Logger
 import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.annotation.Value
 import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.stereotype.Component
+import org.springframework.web.context.request.RequestAttributes
+import org.springframework.web.context.request.RequestContextHolder
 import java.nio.charset.StandardCharsets
 import java.security.Key
+import java.security.MessageDigest
+import java.time.Duration
 import java.util.*
 
+/**
+ * JWT 발급/검증.
+ * - 파서는 불변이고 스레드 안전하므로 빈 하나에 하나만 만들어 공유합니다. (필터도 같은 빈을 주입받음)
+ * - 검증이 끝난 토큰의 클레임은 토큰 해시(SHA-256)를 키로 잠시 캐시하고, 꺼낼 때 만료 시간을 다시 확인합니다.
+ * - 필터가 검증한 클레임을 요청 속성에 붙여 두므로, 같은 요청 안에서 토큰을 다시 읽을 때는 파싱하지 않습니다.
+ */
 @Component
-class JwtUtil {
+class JwtUtil(
+    meterRegistry: MeterRegistry,
+    @Value("\${startreum.jwt.verified-cache-max-size:10000}") verifiedCacheMaxSize: Int,
+    @Value("\${startreum.jwt.verified-cache-ttl:PT5M}") verifiedCacheTtl: Duration
+) {
 
     private val logger: Logger = LoggerFactory.getLogger(JwtUtil::class.java) // 🔹 SLF4J Logger 선언
 
@@ -20,22 +41,48 @@ class JwtUtil {
         private const val SECRET_KEY = "ThisIsASecretKeyForJwtTokenForTestingPurposeOnly" // 환경 변수로 관리 권장
         private const val ACCESS_TOKEN_EXPIRATION = 1000 * 60 * 30L // 30분
         private const val REFRESH_TOKEN_EXPIRATION = 1000L * 60 * 60 * 24 * 7 // 7일
+
+        const val CLAIM_USER_ID = "uid"
+        const val CLAIM_TOKEN_VERSION = "ver"
+        const val CLAIMS_ATTRIBUTE = "funding.startreum.jwt.claims"
+
     }
 
+    /**
+     * 요청에 붙여 둔 검증된 토큰과 클레임
+     */
+    class VerifiedToken(val token: String, val claims: Claims)
+
     val refreshTokenExpiration: Long
         get() = REFRESH_TOKEN_EXPIRATION // ✅ 프로퍼티로 선언
 
     private val key: Key = Keys.hmacShaKeyFor(SECRET_KEY.toByteArray(StandardCharsets.UTF_8))
-
-    
-
-    fun generateAccessToken(name: String, email: String, role: String): String {
+    private val parser: JwtParser = Jwts.parserBuilder().setSigningKey(key).build()
+    private val verifiedTokens = SingleFlightCache<String, Claims>("jwtClaims", verifiedCacheMaxSize, verifiedCacheTtl)
+        .bindTo(meterRegistry)
+
+    /**
+     * 사용자 ID와 토큰 버전 없이 발급한 토큰은 인증할 때마다 DB에서 사용자를 조회합니다.
+     */
+    fun generateAccessToken(name: String, email: String, role: String): String =
+        generateAccessToken(name, email, role, null, null)
+
+    /**
+     * 필터가 DB 조회 없이 인증할 수 있도록 사용자 ID(uid)와 토큰 버전(ver)을 클레임에 담아 발급합니다.
+     */
+    fun generateAccessToken(name: String, email: String, role: String, userId: Int?, tokenVersion: Int?): String {
         val formattedRole = if (role.startsWith("ROLE_")) role else "ROLE_$role"
 
         return Jwts.builder()
             .setSubject(name)
             .claim("email", email)
             .claim("role", formattedRole)
+            .apply {
+                if (userId != null && tokenVersion != null) {
+                    claim(CLAIM_USER_ID, userId)
+                    claim(CLAIM_TOKEN_VERSION, tokenVersion)
+                }
+            }
             .setIssuedAt(Date())
             .setExpiration(Date(System.currentTimeMillis() + ACCESS_TOKEN_EXPIRATION))
             .signWith(key, SignatureAlgorithm.HS256)
@@ -47,6 +94,7 @@ class JwtUtil {
     fun generateRefreshToken(name: String): String {
         return Jwts.builder()
             .setSubject(name)
+            .setId(UUID.randomUUID().toString()) // 같은 초에 재발급해도 토큰이 겹치지 않도록
             .setIssuedAt(Date())
             .setExpiration(Date(System.currentTimeMillis() + REFRESH_TOKEN_EXPIRATION))
             .signWith(key, SignatureAlgorithm.HS256)
@@ -55,13 +103,30 @@ class JwtUtil {
             }
     }
 
+    /**
+     * 서명과 만료 시간을 검증하고 클레임을 반환합니다.
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    fun getClaims(token: String): Claims? {
+        return try {
+            claimsOf(token)
+        } catch (e: Exception) {
+            logger.debug("❌ Token 파싱 실패: ${e.message}")
+            null
+        }
+    }
+
+    /**
+     * 필터에서 검증한 클레임을 현재 요청에 붙입니다. (같은 요청의 컨트롤러/서비스가 다시 파싱하지 않도록)
+     */
+    fun attach(request: HttpServletRequest, token: String, claims: Claims) {
+        request.setAttribute(CLAIMS_ATTRIBUTE, VerifiedToken(token, claims))
+    }
+
     fun validateToken(token: String, userDetails: UserDetails): Boolean {
         return try {
-            val claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .body
+            val claims = claimsOf(token)
 
             val tokenUsername = claims.subject
             val isValid = tokenUsername == userDetails.username
@@ -75,10 +140,7 @@ class JwtUtil {
 
     fun validateToken(token: String): Boolean {
         return try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
+            claimsOf(token)
             logger.info("✅ Refresh Token 검증 성공")
             true
         } catch (e: Exception) {
@@ -89,11 +151,7 @@ class JwtUtil {
 
     fun getNameFromToken(token: String): String? {
         return try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .body
+            claimsOf(token)
                 .subject
                 ?.lowercase().also {
                     logger.info("📌 Token에서 추출한 사용자 이름: $it")
@@ -106,11 +164,7 @@ class JwtUtil {
 
     fun getEmailFromToken(token: String): String {
         return try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .body
+            claimsOf(token)
                 .get("email", String::class.java) ?: throw IllegalArgumentException("Token에서 이메일을 찾을 수 없습니다.")
         } catch (e: Exception) {
             logger.error("❌ Token에서 이메일 추출 실패: ${e.message}")
@@ -121,11 +175,7 @@ class JwtUtil {
 
     fun getRoleFromToken(token: String): String? {
         return try {
-            val role = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .body
+            val role = claimsOf(token)
                 .get("role", String::class.java)
 
             val formattedRole = if (role != null && role.startsWith("ROLE_")) role else "ROLE_$role"
@@ -137,4 +187,29 @@ class JwtUtil {
             null
         }
     }
+
+    /**
+     * 요청에 붙은 클레임 → 검증 캐시 → 파싱 순으로 클레임을 찾습니다.
+     *
+     * @throws io.jsonwebtoken.JwtException 서명이 틀리거나 만료된 토큰
+     */
+    private fun claimsOf(token: String): Claims {
+        val attached = RequestContextHolder.getRequestAttributes()
+            ?.getAttribute(CLAIMS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) as? VerifiedToken
+        if (attached != null && attached.token == token) {
+            return attached.claims
+        }
+
+        val hash = sha256(token)
+        val claims = verifiedTokens.get(hash) { parser.parseClaimsJws(token).body }
+        val expiration = claims.expiration
+        if (expiration != null && expiration.time <= System.currentTimeMillis()) {
+            verifiedTokens.invalidate(hash)
+            throw ExpiredJwtException(null, claims, "만료된 토큰입니다.")
+        }
+        return claims
+    }
+
+    private fun sha256(token: String): String =
+        HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.toByteArray(StandardCharsets.UTF_8)))
 }
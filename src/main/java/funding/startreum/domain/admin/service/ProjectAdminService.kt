@@ -6,10 +6,13 @@ import funding.startreum.domain.admin.repository.ProjectAdminRepository
 import funding.startreum.domain.admin.repository.TransactionFindRepository
 import funding.startreum.domain.admin.repository.VirtualAccountFindRepository
 import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
 import funding.startreum.domain.transaction.entity.Transaction
 import funding.startreum.domain.transaction.repository.TransactionRepository
 import jakarta.persistence.EntityManager
 import org.slf4j.LoggerFactory
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.scheduling.annotation.Scheduled
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Propagation
@@ -23,7 +26,8 @@ open class ProjectAdminService(
     private val fundingFindRepository: FundingFindRepository,
     private val transactionRepository: TransactionRepository,
     private val virtualAccountFindRepository: VirtualAccountFindRepository,
-    private val transactionFindRepository: TransactionFindRepository
+    private val transactionFindRepository: TransactionFindRepository,
+    private val eventPublisher: ApplicationEventPublisher
 ) {
     private val logger = LoggerFactory.getLogger(ProjectAdminService::class.java)
 
@@ -42,6 +46,7 @@ open class ProjectAdminService(
         }
 
         entityManager.flush()
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.APPROVAL))
     }
 
     /**
@@ -59,6 +64,7 @@ open class ProjectAdminService(
         }
 
         entityManager.flush()
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.STATUS))
     }
 
     /**
@@ -70,6 +76,7 @@ open class ProjectAdminService(
     fun updateIsDeletedTransaction(projectId: Int, isDeleted: Boolean) {
         projectAdminRepository.updateIsDeleted(projectId, isDeleted)
         entityManager.flush()
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.DELETED))
     }
 
     /**
@@ -1,5 +1,6 @@
 package funding.startreum.domain.comment.controller
 
+import funding.startreum.common.ratelimit.WriteGuard
 import funding.startreum.common.util.ApiResponse
 import funding.startreum.domain.comment.dto.request.CommentRequest
 import funding.startreum.domain.comment.service.CommentService
@@ -15,26 +16,33 @@ import org.springframework.web.bind.annotation.*
 @RestController
 @RequestMapping("/api/comment")
 class CommentRestController(
-    private val commentService: CommentService
+    private val commentService: CommentService,
+    private val writeGuard: WriteGuard
 ) {
     private val log = LoggerFactory.getLogger(CommentRestController::class.java)
 
     /**
-     * 프로젝트 댓글 조회
+     * 프로젝트 댓글 조회 (최신순, 커서 기반 페이지네이션)
      *
      * @param projectId 프로젝트 ID
-     * @return 댓글 목록을 포함한 응답
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 댓글 목록과 다음 페이지 커서를 포함한 응답
      */
     @GetMapping("/{projectId}")
-    fun getComment(@PathVariable projectId: Int): ResponseEntity<Any> {
+    fun getComment(
+        @PathVariable projectId: Int,
+        @RequestParam(required = false) cursor: String?,
+        @RequestParam(defaultValue = "${CommentService.DEFAULT_PAGE_SIZE}") size: Int
+    ): ResponseEntity<Any> {
         log.debug("프로젝트 ID $projectId 의 댓글을 조회합니다.")
-        val response = commentService.generateCommentsResponse(projectId)
+        val response = commentService.generateCommentsResponse(projectId, cursor, size)
 
-        return if (response.isEmpty()) {
+        return if (response.comments.isEmpty()) {
             log.debug("프로젝트 ID $projectId 에 댓글이 없습니다.")
             ResponseEntity.ok(ApiResponse.success("댓글이 없습니다.", response))
         } else {
-            log.debug("프로젝트 ID $projectId 에 ${response.size}개의 댓글이 조회되었습니다.")
+            log.debug("프로젝트 ID $projectId 에 ${response.comments.size}개의 댓글이 조회되었습니다.")
             ResponseEntity.ok(ApiResponse.success("댓글 조회에 성공했습니다.", response))
         }
     }
@@ -55,6 +63,13 @@ class CommentRestController(
         @AuthenticationPrincipal userDetails: UserDetails
     ): ResponseEntity<Any> {
         log.debug("사용자 ${userDetails.username} 가 프로젝트 ID $projectId 에 댓글을 생성합니다.")
+        val verdict = writeGuard.check(userDetails.username, "comment:$projectId", request.content)
+        if (verdict != WriteGuard.Verdict.ALLOWED) {
+            log.debug("사용자 ${userDetails.username} 의 댓글 작성이 거절되었습니다: $verdict")
+            return ResponseEntity
+                .status(verdict.status)
+                .body(ApiResponse.error<Void>(verdict.message))
+        }
         val response = commentService.generateNewCommentResponse(projectId, request, userDetails.username)
         log.debug("프로젝트 ID $projectId 에 댓글 생성에 성공했습니다.")
 
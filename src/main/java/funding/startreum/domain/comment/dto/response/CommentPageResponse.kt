@@ -0,0 +1,13 @@
+package funding.startreum.domain.comment.dto.response
+
+/**
+ * 댓글 목록 한 페이지 (최신순)
+ *
+ * @property hasNext 다음 페이지 존재 여부
+ * @property nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ */
+data class CommentPageResponse(
+    val comments: List<CommentResponse>,
+    val hasNext: Boolean,
+    val nextCursor: String?
+)
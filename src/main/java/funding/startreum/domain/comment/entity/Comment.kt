@@ -9,7 +9,11 @@ import org.springframework.security.access.AccessDeniedException
 import java.time.LocalDateTime
 
 @Entity
-@Table(name = "comments")
+@Table(
+    name = "comments",
+    // ✅ 프로젝트별 최신순 키셋 페이지네이션용 (정렬 + 커서 조건을 인덱스만으로 처리)
+    indexes = [Index(name = "idx_comments_project_created", columnList = "project_id, created_at, comment_id")]
+)
 class Comment(
 
     @Id
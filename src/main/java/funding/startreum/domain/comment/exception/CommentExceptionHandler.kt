@@ -16,4 +16,11 @@ class CommentExceptionHandler {
             .status(HttpStatus.NOT_FOUND)
             .body(ApiResponse.error(e.message!!))
     }
+
+    @ExceptionHandler(IllegalArgumentException::class)
+    fun handleIllegalArgumentException(e: IllegalArgumentException): ResponseEntity<ApiResponse<Void>> {
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .body(ApiResponse.error(e.message ?: "잘못된 요청입니다."))
+    }
 }
@@ -1,13 +1,47 @@
 package funding.startreum.domain.comment.repository
 
+import funding.startreum.domain.comment.dto.response.CommentResponse
 import funding.startreum.domain.comment.entity.Comment
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Query
+import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
+import java.time.LocalDateTime
 import java.util.*
 
 @Repository
 interface CommentRepository : JpaRepository<Comment, Int> {
     fun findByCommentId(commentId: Int): Optional<Comment>
 
-    fun findByProject_ProjectId(projectId: Int): List<Comment>
+    /**
+     * 프로젝트 댓글 첫 페이지 (최신순, 작성자 이름까지 한 번에 조회)
+     * - (project_id, created_at, comment_id) 인덱스를 역순으로 읽으므로 정렬 비용 없음
+     */
+    @Query(
+        "SELECT new funding.startreum.domain.comment.dto.response.CommentResponse(" +
+                "c.commentId, c.project.projectId, u.name, c.content, c.createdAt, c.updatedAt) " +
+                "FROM Comment c JOIN c.user u " +
+                "WHERE c.project.projectId = :projectId " +
+                "ORDER BY c.createdAt DESC, c.commentId DESC"
+    )
+    fun findPageByProjectId(@Param("projectId") projectId: Int, pageable: Pageable): List<CommentResponse>
+
+    /**
+     * 커서(직전 페이지 마지막 댓글의 작성 시각, ID) 다음 페이지
+     */
+    @Query(
+        "SELECT new funding.startreum.domain.comment.dto.response.CommentResponse(" +
+                "c.commentId, c.project.projectId, u.name, c.content, c.createdAt, c.updatedAt) " +
+                "FROM Comment c JOIN c.user u " +
+                "WHERE c.project.projectId = :projectId " +
+                "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.commentId < :commentId)) " +
+                "ORDER BY c.createdAt DESC, c.commentId DESC"
+    )
+    fun findPageByProjectIdAfter(
+        @Param("projectId") projectId: Int,
+        @Param("createdAt") createdAt: LocalDateTime,
+        @Param("commentId") commentId: Int,
+        pageable: Pageable
+    ): List<CommentResponse>
 }
@@ -0,0 +1,41 @@
+package funding.startreum.domain.comment.service
+
+import java.nio.charset.StandardCharsets
+import java.time.LocalDateTime
+import java.time.format.DateTimeParseException
+import java.util.*
+
+/**
+ * 댓글 키셋 페이지네이션 커서.
+ * - 직전 페이지 마지막 댓글의 (작성 시각, 댓글 ID)를 감싼 불투명한 문자열.
+ */
+object CommentCursor {
+
+    data class Position(val createdAt: LocalDateTime, val commentId: Int)
+
+    private const val PREFIX = "comment:"
+
+    fun encode(createdAt: LocalDateTime, commentId: Int): String =
+        Base64.getUrlEncoder().withoutPadding()
+            .encodeToString("$PREFIX$createdAt|$commentId".toByteArray(StandardCharsets.UTF_8))
+
+    /**
+     * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+     * @return 이 위치 다음부터 조회 (첫 페이지는 null)
+     */
+    fun decode(cursor: String?): Position? {
+        if (cursor.isNullOrBlank()) {
+            return null
+        }
+        try {
+            val decoded = String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8)
+            require(decoded.startsWith(PREFIX))
+            val (createdAt, commentId) = decoded.removePrefix(PREFIX).split("|").also { require(it.size == 2) }
+            return Position(LocalDateTime.parse(createdAt), commentId.toInt())
+        } catch (e: IllegalArgumentException) {
+            throw IllegalArgumentException("잘못된 커서입니다.")
+        } catch (e: DateTimeParseException) {
+            throw IllegalArgumentException("잘못된 커서입니다.")
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package funding.startreum.domain.comment.service
+
+import funding.startreum.domain.comment.dto.response.CommentPageResponse
+import funding.startreum.domain.comment.dto.response.CommentResponse
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.stereotype.Component
+import java.util.concurrent.atomic.AtomicLongArray
+import java.util.concurrent.atomic.LongAdder
+import java.util.function.Supplier
+
+/**
+ * 프로젝트별 최신 댓글 캐시.
+ * - 프로젝트마다 최신 댓글 [HEAD_SIZE]개(첫 몇 페이지)를 최신순으로 보관하고, 그 범위 안의 페이지는 DB 없이 응답.
+ * - 댓글 작성/수정/삭제는 캐시를 비우지 않고 해당 댓글만 반영 (write-through).
+ * - 전체 크기(추정 바이트)가 상한을 넘으면 가장 오래 안 읽힌 프로젝트부터 제거 (LRU).
+ * - DB에서 읽는 동안 같은 프로젝트에 쓰기가 있었으면 읽은 결과를 캐시에 넣지 않음 (오래된 목록 방지).
+ */
+@Component
+class CommentPageCache(
+    meterRegistry: MeterRegistry,
+    @Value("\${startreum.comment-cache.max-bytes:33554432}") private val maxBytes: Long
+) {
+    private class Entry(
+        val head: MutableList<CommentResponse>,
+        var complete: Boolean, // 프로젝트의 모든 댓글이 head에 있음
+        var bytes: Long
+    )
+
+    private val entries = LinkedHashMap<Int, Entry>(16, 0.75f, true) // 접근 순서
+    private val stamps = AtomicLongArray(STRIPES)
+    private var totalBytes = 0L
+
+    private val hits = LongAdder()
+    private val misses = LongAdder()
+
+    init {
+        FunctionCounter.builder("cache.gets", hits) { it.sum().toDouble() }
+            .tag("cache", NAME).tag("result", "hit").register(meterRegistry)
+        FunctionCounter.builder("cache.gets", misses) { it.sum().toDouble() }
+            .tag("cache", NAME).tag("result", "miss").register(meterRegistry)
+        Gauge.builder("cache.size", this) { it.size().toDouble() }
+            .tag("cache", NAME).register(meterRegistry)
+        Gauge.builder("comment.cache.bytes", this) { it.totalBytes().toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * 캐시된 범위 안의 페이지면 반환합니다. 첫 페이지 요청인데 캐시에 없으면 loader로 최신 댓글을 읽어 채웁니다.
+     *
+     * @param loader 최신순 댓글 최대 HEAD_SIZE + 1개
+     * @return 캐시로 응답할 수 없으면 null (DB 조회 필요)
+     */
+    fun page(
+        projectId: Int,
+        position: CommentCursor.Position?,
+        size: Int,
+        loader: Supplier<List<CommentResponse>>
+    ): CommentPageResponse? {
+        if (size >= HEAD_SIZE) {
+            return null
+        }
+        synchronized(this) { entries[projectId]?.let { return hit(slice(it, position, size)) } }
+        if (position != null) {
+            misses.increment()
+            return null
+        }
+
+        misses.increment()
+        val stamp = stamps[stripe(projectId)]
+        val rows = loader.get()
+        synchronized(this) {
+            val entry = entries[projectId] ?: install(projectId, rows, stamp) ?: return pageOf(rows, size)
+            return slice(entry, null, size)
+        }
+    }
+
+    /**
+     * 새 댓글 반영 (캐시에 없는 프로젝트는 무시)
+     */
+    @Synchronized
+    fun added(comment: CommentResponse) {
+        bump(comment.projectId)
+        val entry = entries[comment.projectId] ?: return
+
+        val index = entry.head.binarySearch(comment, NEWEST_FIRST).let { if (it < 0) -it - 1 else it }
+        if (index >= HEAD_SIZE) {
+            entry.complete = false
+            return
+        }
+        entry.head.add(index, comment)
+        resize(entry, sizeOf(comment))
+        while (entry.head.size > HEAD_SIZE) {
+            resize(entry, -sizeOf(entry.head.removeAt(entry.head.lastIndex)))
+            entry.complete = false
+        }
+        evictIfNeeded()
+    }
+
+    /**
+     * 수정된 댓글 반영 (캐시된 범위 밖이면 무시)
+     */
+    @Synchronized
+    fun updated(comment: CommentResponse) {
+        bump(comment.projectId)
+        val entry = entries[comment.projectId] ?: return
+        val index = entry.head.indexOfFirst { it.commentId == comment.commentId }
+        if (index >= 0) {
+            resize(entry, sizeOf(comment) - sizeOf(entry.head.set(index, comment)))
+            evictIfNeeded()
+        }
+    }
+
+    /**
+     * 삭제된 댓글 반영. 남은 목록은 여전히 최신 댓글의 앞부분이므로 그대로 사용.
+     */
+    @Synchronized
+    fun removed(projectId: Int, commentId: Int) {
+        bump(projectId)
+        val entry = entries[projectId] ?: return
+        val index = entry.head.indexOfFirst { it.commentId == commentId }
+        if (index >= 0) {
+            resize(entry, -sizeOf(entry.head.removeAt(index)))
+        }
+    }
+
+    @Synchronized
+    fun size(): Int = entries.size
+
+    @Synchronized
+    fun totalBytes(): Long = totalBytes
+
+    private fun hit(page: CommentPageResponse?): CommentPageResponse? {
+        if (page == null) misses.increment() else hits.increment()
+        return page
+    }
+
+    /**
+     * position 다음부터 size개. 캐시 끝을 넘어가는데 캐시가 전체 목록이 아니면 null.
+     */
+    private fun slice(entry: Entry, position: CommentCursor.Position?, size: Int): CommentPageResponse? {
+        val head = entry.head
+        val start = if (position == null) 0 else head.indexOfFirst { isAfter(it, position) }.let { if (it < 0) head.size else it }
+        val end = start + size
+
+        if (end < head.size) {
+            return pageOf(head.subList(start, end + 1), size)
+        }
+        if (!entry.complete) {
+            return null
+        }
+        return CommentPageResponse(head.subList(start, head.size).toList(), false, null)
+    }
+
+    private fun install(projectId: Int, rows: List<CommentResponse>, stamp: Long): Entry? {
+        if (stamps[stripe(projectId)] != stamp) {
+            return null // 읽는 동안 쓰기가 있었음
+        }
+        val head = rows.take(HEAD_SIZE).toMutableList()
+        val entry = Entry(head, rows.size <= HEAD_SIZE, 0)
+        entries[projectId] = entry
+        resize(entry, head.sumOf { sizeOf(it) } + ENTRY_OVERHEAD)
+        evictIfNeeded()
+        return entries[projectId]
+    }
+
+    private fun resize(entry: Entry, delta: Long) {
+        entry.bytes += delta
+        totalBytes += delta
+    }
+
+    private fun evictIfNeeded() {
+        val iterator = entries.values.iterator()
+        while (totalBytes > maxBytes && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes
+            iterator.remove()
+        }
+    }
+
+    private fun bump(projectId: Int) {
+        stamps.incrementAndGet(stripe(projectId))
+    }
+
+    companion object {
+        const val NAME = "commentPages"
+        const val HEAD_SIZE = 3 * CommentService.DEFAULT_PAGE_SIZE
+
+        private const val STRIPES = 64
+        private const val ENTRY_OVERHEAD = 128L
+        private const val COMMENT_OVERHEAD = 160L
+
+        private val NEWEST_FIRST = compareByDescending<CommentResponse> { it.createdAt }.thenByDescending { it.commentId }
+
+        private fun stripe(projectId: Int) = projectId and (STRIPES - 1)
+
+        private fun isAfter(comment: CommentResponse, position: CommentCursor.Position): Boolean =
+            comment.createdAt < position.createdAt ||
+                    (comment.createdAt == position.createdAt && comment.commentId < position.commentId)
+
+        private fun sizeOf(comment: CommentResponse): Long =
+            COMMENT_OVERHEAD + 2L * (comment.content.length + comment.userName.length)
+
+        /**
+         * 최대 size + 1개의 행으로 한 페이지를 만듭니다. (한 건이 더 있으면 다음 페이지 있음)
+         */
+        fun pageOf(rows: List<CommentResponse>, size: Int): CommentPageResponse {
+            val hasNext = rows.size > size
+            val comments = if (hasNext) rows.subList(0, size).toList() else rows.toList()
+            val nextCursor = if (hasNext) comments.last().let { CommentCursor.encode(it.createdAt, it.commentId) } else null
+            return CommentPageResponse(comments, hasNext, nextCursor)
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package funding.startreum.domain.comment.service
 
 import funding.startreum.domain.comment.dto.request.CommentRequest
+import funding.startreum.domain.comment.dto.response.CommentPageResponse
 import funding.startreum.domain.comment.dto.response.CommentResponse
 import funding.startreum.domain.comment.dto.response.CommentResponse.Companion.toResponse
 import funding.startreum.domain.comment.entity.Comment
@@ -8,10 +9,13 @@ import funding.startreum.domain.comment.repository.CommentRepository
 import funding.startreum.domain.project.service.ProjectService
 import funding.startreum.domain.users.service.UserService
 import jakarta.persistence.EntityNotFoundException
+import org.springframework.data.domain.PageRequest
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionSynchronization
+import org.springframework.transaction.support.TransactionSynchronizationManager
 import java.time.LocalDateTime
-import java.util.stream.Collectors
+import java.time.temporal.ChronoUnit
 
 @Service
 @Transactional
@@ -19,6 +23,7 @@ class CommentService(
     private val commentRepository: CommentRepository,
     private val userService: UserService,
     private val projectService: ProjectService,
+    private val commentPageCache: CommentPageCache,
 ) {
 
     @Transactional(readOnly = true)
@@ -27,33 +32,48 @@ class CommentService(
             .orElseThrow { EntityNotFoundException("댓글을 찾을 수 없습니다 : $commentId") }
     }
 
+    /**
+     * 프로젝트 댓글 한 페이지 (최신순)
+     * - 최신 댓글 몇 페이지는 캐시에서 응답 (CommentPageCache)
+     * - 그 밖의 페이지는 작성자 이름까지 프로젝션 쿼리 한 번으로 조회하므로 댓글 수와 무관하게 페이지당 쿼리 1개
+     *
+     * @param cursor 직전 페이지 응답의 nextCursor (첫 페이지는 null)
+     */
     @Transactional(readOnly = true)
-    fun getComments(projectId: Int): List<Comment> {
-        return commentRepository.findByProject_ProjectId(projectId)
-    }
+    fun generateCommentsResponse(projectId: Int, cursor: String?, size: Int): CommentPageResponse {
+        val pageSize = size.coerceIn(1, MAX_PAGE_SIZE)
+        val position = CommentCursor.decode(cursor)
 
-    @Transactional(readOnly = true)
-    fun generateCommentsResponse(projectId: Int): List<CommentResponse> {
-        val comments = getComments(projectId)
-        return comments.stream()
-            .map { obj: Comment -> toResponse(comment = obj) }
-            .collect(Collectors.toList())
+        commentPageCache.page(projectId, position, pageSize) {
+            commentRepository.findPageByProjectId(projectId, PageRequest.of(0, CommentPageCache.HEAD_SIZE + 1))
+        }?.let { return it }
+
+        val pageable = PageRequest.of(0, pageSize + 1) // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        val rows = if (position == null) {
+            commentRepository.findPageByProjectId(projectId, pageable)
+        } else {
+            commentRepository.findPageByProjectIdAfter(projectId, position.createdAt, position.commentId, pageable)
+        }
+        return CommentPageCache.pageOf(rows, pageSize)
     }
 
     fun createComment(projectId: Int, request: CommentRequest, username: String): Comment {
         val currentUser = userService.getUserByName(username)
         val currentProject = projectService.getProject(projectId)
+        val now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS) // DB 저장 정밀도와 맞춰 커서 비교가 어긋나지 않게
 
         val comment = Comment().apply {
             project = currentProject
             user = currentUser
             content = request.content
-            createdAt = LocalDateTime.now()
-            updatedAt = LocalDateTime.now()
+            createdAt = now
+            updatedAt = now
         }
 
         commentRepository.save(comment)
 
+        val response = toResponse(comment)
+        afterCommit { commentPageCache.added(response) }
         return comment
     }
 
@@ -66,6 +86,9 @@ class CommentService(
         val comment = getComment(commentId)
         comment.verifyPermission(username)
         comment.content = request.content
+
+        val response = toResponse(comment)
+        afterCommit { commentPageCache.updated(response) }
         return comment
     }
 
@@ -78,6 +101,26 @@ class CommentService(
         val comment = getComment(commentId)
         comment.verifyPermission(username)
         commentRepository.delete(comment)
+
+        val projectId = comment.project.projectId!!
+        afterCommit { commentPageCache.removed(projectId, commentId) }
+    }
+
+    /**
+     * 캐시는 커밋된 내용만 반영 (롤백되면 반영하지 않음)
+     */
+    private fun afterCommit(action: () -> Unit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action()
+            return
+        }
+        TransactionSynchronizationManager.registerSynchronization(object : TransactionSynchronization {
+            override fun afterCommit() = action()
+        })
     }
-}
 
+    companion object {
+        const val DEFAULT_PAGE_SIZE = 20
+        const val MAX_PAGE_SIZE = 100
+    }
+}
@@ -6,6 +6,8 @@ import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Query
 import org.springframework.data.repository.query.Param
+import java.math.BigDecimal
+import java.time.LocalDateTime
 import java.util.*
 
 interface FundingRepository : JpaRepository<Funding, Int> {
@@ -24,4 +26,77 @@ interface FundingRepository : JpaRepository<Funding, Int> {
     ): Page<Funding>
 
     fun findByFundingId(fundingId: Int): Optional<Funding>
-}
\ No newline at end of file
+
+    /**
+     * 기간 내 프로젝트별 후원 합계 (펀딩 모멘텀 계산용)
+     *
+     * @param since 집계 시작 시각
+     * @return 프로젝트 ID, 후원 합계
+     */
+    @Query(
+        """
+        SELECT f.project.projectId AS projectId, SUM(f.amount) AS amount
+        FROM Funding f
+        WHERE f.isDeleted = false AND f.fundedAt >= :since
+        GROUP BY f.project.projectId
+    """
+    )
+    fun sumRecentAmountsByProject(@Param("since") since: LocalDateTime): List<ProjectAmount>
+
+    /**
+     * 기간 내 특정 프로젝트의 후원 합계
+     */
+    @Query(
+        """
+        SELECT COALESCE(SUM(f.amount), 0) FROM Funding f
+        WHERE f.project.projectId = :projectId AND f.isDeleted = false AND f.fundedAt >= :since
+    """
+    )
+    fun sumRecentAmountByProjectId(
+        @Param("projectId") projectId: Int,
+        @Param("since") since: LocalDateTime
+    ): BigDecimal
+
+    /**
+     * 기간 내 후원 내역 (트렌딩 점수 계산용)
+     *
+     * @param since 조회 시작 시각
+     * @return 프로젝트 ID, 후원 금액, 후원 일자
+     */
+    @Query(
+        """
+        SELECT f.project.projectId AS projectId, f.amount AS amount, f.fundedAt AS fundedAt
+        FROM Funding f
+        WHERE f.isDeleted = false AND f.fundedAt >= :since
+    """
+    )
+    fun findRecentFundings(@Param("since") since: LocalDateTime): List<RecentFunding>
+
+    /**
+     * 프로젝트 후원 통계 (후원자 수, 후원 건수)
+     */
+    @Query(
+        """
+        SELECT COUNT(DISTINCT f.sponsor.userId) AS sponsorCount, COUNT(f) AS fundingCount
+        FROM Funding f
+        WHERE f.project.projectId = :projectId AND f.isDeleted = false
+    """
+    )
+    fun getFundingStats(@Param("projectId") projectId: Int): FundingStats
+
+    interface FundingStats {
+        val sponsorCount: Long
+        val fundingCount: Long
+    }
+
+    interface RecentFunding {
+        val projectId: Int
+        val amount: BigDecimal
+        val fundedAt: LocalDateTime
+    }
+
+    interface ProjectAmount {
+        val projectId: Int
+        val amount: BigDecimal
+    }
+}
@@ -1,5 +1,6 @@
 package funding.startreum.domain.inquiry
 
+import funding.startreum.common.ratelimit.WriteGuard
 import funding.startreum.common.util.JwtUtil
 import jakarta.validation.Valid
 import org.springframework.http.HttpStatus
@@ -12,7 +13,8 @@ import org.springframework.web.bind.annotation.*
 @PreAuthorize("hasRole('BENEFICIARY')")
 public open class BeneficiaryInquiryController(
     private val inquiryService: InquiryService,
-    private val jwtUtil: JwtUtil
+    private val jwtUtil: JwtUtil,
+    private val writeGuard: WriteGuard
 ) {
     @PostMapping("/inquiries")
     fun createInquiry(
@@ -20,6 +22,12 @@ public open class BeneficiaryInquiryController(
         @RequestBody @Valid inquiryRequest: InquiryRequest
     ): ResponseEntity<InquiryResponse> {
         val email = jwtUtil.getEmailFromToken(token.removePrefix("Bearer "))
+        val verdict = writeGuard.check(email, "inquiry", "${inquiryRequest.title}\n${inquiryRequest.content}")
+        if (verdict != WriteGuard.Verdict.ALLOWED) {
+            return ResponseEntity
+                .status(verdict.status)
+                .body(InquiryResponse.error(verdict.status.value(), verdict.message))
+        }
         val response = inquiryService.createInquiry(email, inquiryRequest)
 
         return ResponseEntity
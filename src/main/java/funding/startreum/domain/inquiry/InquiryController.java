@@ -1,5 +1,6 @@
 package funding.startreum.domain.inquiry;
 
+import funding.startreum.common.ratelimit.WriteGuard;
 import funding.startreum.common.util.JwtUtil;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +15,7 @@ public class InquiryController {
 
     private final InquiryService inquiryService;
     private final JwtUtil jwtUtil;
+    private final WriteGuard writeGuard;
 
     @PostMapping("/inquiries")
     public ResponseEntity<InquiryResponse> createInquiry(
@@ -21,6 +23,12 @@ public class InquiryController {
             @RequestBody @Valid InquiryRequest request) {
 
         String email =jwtUtil.getEmailFromToken(token.replace("Bearer ", ""));
+        WriteGuard.Verdict verdict = writeGuard.check(email, "inquiry", request.title() + "\n" + request.content());
+        if (verdict != WriteGuard.Verdict.ALLOWED) {
+            return ResponseEntity
+                    .status(verdict.getStatus())
+                    .body(InquiryResponse.error(verdict.getStatus().value(), verdict.getMessage()));
+        }
         InquiryResponse response = inquiryService.createInquiry(email, request);
 
         return ResponseEntity
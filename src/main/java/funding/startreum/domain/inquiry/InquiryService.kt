@@ -1,6 +1,6 @@
 package funding.startreum.domain.inquiry
 
-import funding.startreum.domain.users.repository.UserRepository
+import funding.startreum.domain.users.service.UserCache
 import jakarta.transaction.Transactional
 import org.springframework.stereotype.Service
 import java.time.LocalDateTime
@@ -8,7 +8,7 @@ import java.time.LocalDateTime
 @Service
 open class InquiryService(
     private val inquiryRepository: InquiryRepository,
-    private val userRepository: UserRepository
+    private val userCache: UserCache
 ) {
 
     @Transactional
@@ -19,8 +19,8 @@ open class InquiryService(
                 return InquiryResponse.error(400, "문의 내용 불러오기에 실패했습니다. 필수 필드를 확인해주세요.")
             }
 
-            val user = userRepository.findByEmail(email)
-                .orElseThrow { IllegalArgumentException("사용자를 찾을 수 없습니다.") }
+            val user = userCache.findByEmail(email)
+                ?: throw IllegalArgumentException("사용자를 찾을 수 없습니다.")
 
             val inquiry = inquiryRepository.save(
                 Inquiry(
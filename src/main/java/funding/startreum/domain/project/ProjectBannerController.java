@@ -0,0 +1,63 @@
+package funding.startreum.domain.project;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.time.Duration;
+
+/**
+ * 프로젝트 배너 썸네일 API.
+ * - `/api/projects/{projectId}/banner?w=320` → 디스크에 캐시된 썸네일(JPEG)을 반환.
+ * - 캐시가 연 채널을 응답 스트림으로 복사해 전송 (버퍼 복사, zero-copy 아님).
+ *   썸네일은 언제든 캐시에서 밀려날 수 있으므로 파일 이름으로 나중에 다시 여는 Tomcat sendfile은 쓰지 않음.
+ * - 외부 URL 배너는 원본 URL로 리다이렉트, 배너가 없거나 읽을 수 없으면 404.
+ */
+@RestController
+@RequestMapping("/api/projects")
+public class ProjectBannerController {
+
+    private static final CacheControl CACHE_CONTROL = CacheControl.maxAge(Duration.ofDays(1)).cachePublic();
+
+    private final ProjectBannerService projectBannerService;
+
+    public ProjectBannerController(ProjectBannerService projectBannerService) {
+        this.projectBannerService = projectBannerService;
+    }
+
+    @GetMapping("/{projectId}/banner")
+    public void getBanner(@PathVariable Integer projectId,
+                          @RequestParam(name = "w", defaultValue = "320") int width,
+                          HttpServletResponse response) throws IOException {
+        ProjectBannerService.Banner banner = projectBannerService.getBanner(projectId, width);
+
+        if (banner.file() == null) {
+            if (banner.originalUrl() == null) {
+                response.sendError(HttpStatus.NOT_FOUND.value());
+            } else {
+                response.setStatus(HttpStatus.FOUND.value());
+                response.setHeader(HttpHeaders.LOCATION, banner.originalUrl());
+            }
+            return;
+        }
+
+        try (FileChannel file = banner.file()) {
+            long size = file.size();
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(size);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL.getHeaderValue());
+
+            Channels.newInputStream(file).transferTo(response.getOutputStream());
+        }
+    }
+}
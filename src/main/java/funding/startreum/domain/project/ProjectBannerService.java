@@ -0,0 +1,253 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.common.cache.DiskLruCache;
+import funding.startreum.common.cache.SingleFlightCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+
+/**
+ * 프로젝트 배너 썸네일 서비스.
+ * - 배너 원본을 정해진 너비(160 / 320 / 640)로 줄여 JPEG로 한 번만 인코딩하고 디스크 캐시(LRU, 용량 제한)에 보관.
+ * - 캐시 키는 배너 URL의 해시 + 너비이므로 배너를 바꾸면 자연히 새 썸네일을 만듦.
+ * - 원본은 로컬 파일(업로드 디렉터리 또는 classpath:/static)만 읽습니다.
+ *   외부 URL은 서버가 대신 내려받지 않고(SSRF 방지) null을 반환하며, 컨트롤러가 원본 URL로 리다이렉트.
+ * - 디코딩 전에 헤더의 가로/세로만 읽어 너무 큰 이미지(압축 폭탄)는 거부합니다.
+ * - 읽을 수 없거나 너무 큰 원본은 잠시 기억해 두고 다시 디코딩하지 않으며, 배너가 없는 것처럼(404) 응답합니다.
+ */
+@Service
+public class ProjectBannerService {
+
+    static final int[] WIDTHS = {160, 320, 640};
+    private static final float JPEG_QUALITY = 0.8f;
+    private static final long MAX_SOURCE_BYTES = 20L * 1024 * 1024;
+    static final int MAX_SOURCE_DIMENSION = 8_000;
+    static final long MAX_SOURCE_PIXELS = 40_000_000L;
+    private static final int UNREADABLE_CACHE_MAX_SIZE = 1_000;
+    private static final Duration UNREADABLE_CACHE_TTL = Duration.ofMinutes(10);
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectBannerService.class);
+
+    private final ProjectDetailService projectDetailService;
+    private final DiskLruCache thumbnails;
+    private final SingleFlightCache<String, Boolean> unreadable;
+    private final Path uploadDir;
+
+    public ProjectBannerService(ProjectDetailService projectDetailService,
+                                MeterRegistry meterRegistry,
+                                @Value("${startreum.banner.cache-dir:${java.io.tmpdir}/startreum-banners}") String cacheDir,
+                                @Value("${startreum.banner.cache-max-bytes:268435456}") long cacheMaxBytes,
+                                @Value("${startreum.banner.upload-dir:}") String uploadDir) {
+        this.projectDetailService = projectDetailService;
+        this.thumbnails = new DiskLruCache(Path.of(cacheDir), cacheMaxBytes);
+        this.unreadable = new SingleFlightCache<String, Boolean>("bannerUnreadable", UNREADABLE_CACHE_MAX_SIZE, UNREADABLE_CACHE_TTL)
+                .bindTo(meterRegistry);
+        this.uploadDir = uploadDir.isBlank() ? null : Path.of(uploadDir).toAbsolutePath().normalize();
+    }
+
+    /**
+     * 썸네일 조회 결과
+     *
+     * @param file        캐시된 썸네일 파일의 열린 채널 (외부 URL이거나 배너가 없으면 null, 호출자가 닫음)
+     * @param originalUrl 리다이렉트할 배너 URL (배너가 없거나 읽을 수 없으면 null)
+     */
+    public record Banner(FileChannel file, String originalUrl) {
+    }
+
+    /**
+     * 요청 너비 이상인 가장 작은 썸네일을 반환합니다.
+     *
+     * @throws funding.startreum.domain.project.exception.ProjectNotFoundException 프로젝트가 없을 때
+     */
+    public Banner getBanner(Integer projectId, int width) {
+        String bannerUrl = projectDetailService.getProjectDetail(projectId).bannerUrl();
+        if (bannerUrl == null || bannerUrl.isBlank()) {
+            return new Banner(null, null);
+        }
+
+        Source source = resolve(bannerUrl);
+        if (source == null) {
+            return new Banner(null, bannerUrl);
+        }
+
+        String hash = sha256(bannerUrl);
+        if (unreadable.getIfPresent(hash) != null) {
+            return new Banner(null, null);
+        }
+
+        int target = snapWidth(width);
+        try {
+            return new Banner(thumbnails.open(hash + "-" + target + ".jpg", file -> writeThumbnail(source, target, file)), bannerUrl);
+        } catch (UncheckedIOException e) {
+            if (!(e.getCause() instanceof UnreadableBannerException)) {
+                throw e;
+            }
+            log.warn("⚠️ 배너 썸네일 생성 실패 - projectId: {}, bannerUrl: {}, 사유: {}", projectId, bannerUrl, e.getCause().getMessage());
+            unreadable.get(hash, () -> Boolean.TRUE);
+            return new Banner(null, null);
+        }
+    }
+
+    static int snapWidth(int width) {
+        for (int candidate : WIDTHS) {
+            if (width <= candidate) {
+                return candidate;
+            }
+        }
+        return WIDTHS[WIDTHS.length - 1];
+    }
+
+    /**
+     * 원본보다 크게 늘리지 않고 비율을 유지해 줄인 이미지
+     */
+    static BufferedImage resize(BufferedImage original, int width) {
+        int targetWidth = Math.min(width, original.getWidth());
+        int targetHeight = Math.max(1, Math.round((float) original.getHeight() * targetWidth / original.getWidth()));
+
+        BufferedImage resized = new BufferedImage(targetWidth, targetHeight, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = resized.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.setColor(Color.WHITE); // 투명 배경(PNG)은 흰색으로
+            g.fillRect(0, 0, targetWidth, targetHeight);
+            g.drawImage(original, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return resized;
+    }
+
+    /**
+     * 헤더로 가로/세로를 먼저 확인한 뒤 디코딩합니다.
+     *
+     * @throws UnreadableBannerException 이미지가 아니거나, 깨졌거나, 너무 클 때
+     */
+    static BufferedImage decode(InputStream in) throws UnreadableBannerException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(in)) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                throw new UnreadableBannerException("이미지로 읽을 수 없는 배너입니다.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if (width > MAX_SOURCE_DIMENSION || height > MAX_SOURCE_DIMENSION || (long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new UnreadableBannerException("너무 큰 배너 이미지입니다: " + width + "x" + height);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (UnreadableBannerException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            throw new UnreadableBannerException("깨진 배너 이미지입니다: " + e.getMessage());
+        }
+    }
+
+    private void writeThumbnail(Source source, int width, Path target) throws IOException {
+        BufferedImage original;
+        try (InputStream in = source.open()) {
+            original = decode(in);
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream out = ImageIO.createImageOutputStream(target.toFile())) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            writer.setOutput(out);
+            writer.write(null, new IIOImage(resize(original, width), null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    /**
+     * 원본을 썸네일로 만들 수 없음 (다시 시도해도 같은 결과)
+     */
+    static class UnreadableBannerException extends IOException {
+        UnreadableBannerException(String message) {
+            super(message);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Source {
+        InputStream open() throws IOException;
+    }
+
+    /**
+     * `/`로 시작하는 로컬 경로만 원본으로 인정 (업로드 디렉터리 → classpath:/static 순)
+     */
+    private Source resolve(String bannerUrl) {
+        if (!bannerUrl.startsWith("/") || bannerUrl.startsWith("//")) {
+            return null;
+        }
+        String relative = bannerUrl.substring(1);
+        int query = relative.indexOf('?');
+        if (query >= 0) {
+            relative = relative.substring(0, query);
+        }
+
+        if (uploadDir != null) {
+            Path file = uploadDir.resolve(relative).normalize();
+            if (file.startsWith(uploadDir) && Files.isRegularFile(file) && sizeOf(file) <= MAX_SOURCE_BYTES) {
+                return () -> Files.newInputStream(file);
+            }
+        }
+
+        ClassPathResource resource = new ClassPathResource("static/" + relative);
+        if (!relative.contains("..") && resource.exists()) {
+            return resource::getInputStream;
+        }
+        return null;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
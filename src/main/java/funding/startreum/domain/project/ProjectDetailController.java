@@ -1,27 +1,55 @@
 package funding.startreum.domain.project;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 /**
  * 프로젝트 상세 정보를 제공하는 REST 컨트롤러.
  * - 클라이언트가 `/api/projects/{projectId}`를 호출하면 JSON 데이터를 반환.
+ * - 응답에 ETag를 붙이고, `If-None-Match`가 같으면 본문 없이 304를 반환.
+ * - `/api/projects/{projectId}/page`는 상세 페이지에 필요한 정보를 한 번에 반환.
  */
 @RestController
 @RequestMapping("/api/projects")
 public class ProjectDetailController {
 
     private final ProjectDetailService projectDetailService;
+    private final ProjectPageService projectPageService;
 
-    public ProjectDetailController(ProjectDetailService projectDetailService) {
+    public ProjectDetailController(ProjectDetailService projectDetailService, ProjectPageService projectPageService) {
         this.projectDetailService = projectDetailService;
+        this.projectPageService = projectPageService;
     }
 
     @GetMapping("/{projectId}")
-    public ResponseEntity<ProjectDetailDto> getProjectDetail(@PathVariable Integer projectId) {
-        return ResponseEntity.ok(projectDetailService.getProjectDetail(projectId));
+    public ResponseEntity<ProjectDetailDto> getProjectDetail(@PathVariable Integer projectId, WebRequest request) {
+        ProjectDetailService.CachedDetail cached = projectDetailService.getCachedProjectDetail(projectId);
+
+        // ✅ 브라우저가 가진 버전과 같으면 본문 없이 304
+        if (request.checkNotModified(cached.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(cached.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .cacheControl(CacheControl.noCache()) // 매번 재검증 (변경 즉시 반영)
+                .body(cached.detail());
+    }
+
+    /**
+     * 상세, 리워드, 댓글 첫 페이지, 후원 통계를 한 번에 조회 (늦은 부분은 `missing`에 표시하고 제외)
+     */
+    @GetMapping("/{projectId}/page")
+    public ResponseEntity<ProjectPageDto> getProjectPage(@PathVariable Integer projectId) {
+        return ResponseEntity.ok(projectPageService.getProjectPage(projectId));
     }
-}
\ No newline at end of file
+}
@@ -22,9 +22,10 @@ public record ProjectDetailDto(
         String simpleDescription // 간단한 설명
 
 ) {
-    public static ProjectDetailDto from(Project project) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    // DateTimeFormatter는 불변/스레드 안전하므로 한 번만 생성
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
 
+    public static ProjectDetailDto from(Project project) {
         return new ProjectDetailDto(
                 project.getProjectId(),
                 project.getTitle(),
@@ -33,8 +34,8 @@ public record ProjectDetailDto(
                 project.getFundingGoal(),
                 project.getCurrentFunding(),
                 convertStatusToKorean(project.getStatus().name()),
-                project.getStartDate().format(formatter),
-                project.getEndDate().format(formatter),
+                project.getStartDate().format(DATE_FORMATTER),
+                project.getEndDate().format(DATE_FORMATTER),
                 project.getCreator().getName(),
                 project.getSimpleDescription()
         );
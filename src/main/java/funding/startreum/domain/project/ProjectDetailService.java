@@ -1,24 +1,98 @@
 package funding.startreum.domain.project;
 
+import funding.startreum.common.cache.SingleFlightCache;
 import funding.startreum.domain.project.entity.Project;
+import funding.startreum.domain.project.event.ProjectChangedEvent;
+import funding.startreum.domain.project.exception.ProjectNotFoundException;
 import funding.startreum.domain.project.repository.ProjectRepository;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * 프로젝트 상세 조회 서비스.
+ * - 프로젝트별 상세 DTO와 ETag를 캐시하고, 수정/모금/상태 변경 이벤트가 오면 해당 프로젝트만 무효화.
+ * - ETag는 DTO 내용의 해시이므로 내용이 같으면 재시작 후에도 같은 값 (강한 검증자).
+ * - 같은 프로젝트를 동시에 조회하면 DB 조회는 한 번만 수행 (없는 ID도 같은 예외를 공유).
+ * - 없는 ID는 짧은 시간 부정 캐시에 기록해, 크롤러/깨진 링크의 반복 요청에 DB 조회 없이 404로 응답.
+ */
 @Service
 public class ProjectDetailService {
 
+    private static final int CACHE_MAX_SIZE = 1_000;
+    private static final Duration CACHE_TTL = Duration.ofMinutes(1); // 이벤트 없이 바뀌는 상태(스케줄러) 반영 주기
+    private static final int MISSING_CACHE_MAX_SIZE = 10_000;
+    private static final Duration MISSING_CACHE_TTL = Duration.ofSeconds(30); // 새로 생성된 ID가 늦게 보이는 최대 시간
+
+    /**
+     * 캐시되는 상세 정보와 ETag
+     */
+    public record CachedDetail(ProjectDetailDto detail, String etag) {
+    }
+
     private final ProjectRepository projectRepository;
+    private final SingleFlightCache<Integer, CachedDetail> cache;
+    private final SingleFlightCache<Integer, Boolean> missingIds;
 
-    public ProjectDetailService(ProjectRepository projectRepository) {
+    public ProjectDetailService(ProjectRepository projectRepository, MeterRegistry meterRegistry) {
         this.projectRepository = projectRepository;
+        this.cache = new SingleFlightCache<Integer, CachedDetail>("projectDetail", CACHE_MAX_SIZE, CACHE_TTL)
+                .bindTo(meterRegistry);
+        this.missingIds = new SingleFlightCache<Integer, Boolean>("projectDetailMissing", MISSING_CACHE_MAX_SIZE, MISSING_CACHE_TTL)
+                .bindTo(meterRegistry);
+    }
+
+    public ProjectDetailDto getProjectDetail(Integer projectId) {
+        return getCachedProjectDetail(projectId).detail();
     }
 
-    @Transactional(readOnly = true)
-    public funding.startreum.domain.project.ProjectDetailDto getProjectDetail(Integer projectId) {
-        Project project = projectRepository.findById(projectId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: " + projectId));
+    /**
+     * 캐시된 상세 정보와 ETag를 반환합니다. (없으면 작성자까지 한 번에 조회해 캐시)
+     *
+     * @throws ProjectNotFoundException 프로젝트가 없을 때 (최근에 없었던 ID는 DB를 조회하지 않음)
+     */
+    public CachedDetail getCachedProjectDetail(Integer projectId) {
+        if (missingIds.getIfPresent(projectId) != null) {
+            throw new ProjectNotFoundException(projectId);
+        }
+        try {
+            return cache.get(projectId, () -> load(projectId));
+        } catch (ProjectNotFoundException e) {
+            missingIds.get(projectId, () -> Boolean.TRUE);
+            throw e;
+        }
+    }
+
+    /**
+     * 프로젝트가 수정/결제/환불/승인/삭제되면 해당 프로젝트 캐시만 비웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        cache.invalidate(event.getProjectId());
+        missingIds.invalidate(event.getProjectId());
+    }
+
+    private CachedDetail load(Integer projectId) {
+        Project project = projectRepository.findWithCreatorById(projectId)
+                .orElseThrow(() -> new ProjectNotFoundException(projectId));
+
+        ProjectDetailDto detail = ProjectDetailDto.from(project);
+        return new CachedDetail(detail, etagOf(detail));
+    }
 
-        return funding.startreum.domain.project.ProjectDetailDto.from(project);
+    private static String etagOf(ProjectDetailDto detail) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(detail.toString().getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
-}
\ No newline at end of file
+}
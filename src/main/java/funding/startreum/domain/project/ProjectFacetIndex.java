@@ -0,0 +1,168 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.domain.project.entity.Project;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 검색 패싯(상태별 / 달성률 구간별) 건수를 계산하기 위한 메모리 색인.
+ * - 프로젝트 ID를 비트 위치로 쓰는 BitSet을 패싯 값마다 하나씩 유지.
+ * - 패싯 건수 = (검색 결과 BitSet ∩ 패싯 BitSet).cardinality() 이므로 패싯마다 COUNT 쿼리를 실행하지 않음.
+ * - 읽기는 잠금 없이 스냅샷을 사용하고, 쓰기는 스냅샷을 복사해 교체합니다.
+ */
+public class ProjectFacetIndex {
+
+    /**
+     * 달성률(현재 모금액 / 목표 금액) 구간
+     */
+    public enum FundingBand {
+        UNDER_25, FROM_25_TO_50, FROM_50_TO_75, FROM_75_TO_100, OVER_100;
+
+        public static FundingBand of(BigDecimal currentFunding, BigDecimal fundingGoal) {
+            if (fundingGoal == null || fundingGoal.signum() <= 0) {
+                return OVER_100;
+            }
+            int percent = (currentFunding == null ? BigDecimal.ZERO : currentFunding)
+                    .multiply(BigDecimal.valueOf(100))
+                    .divide(fundingGoal, 0, RoundingMode.DOWN)
+                    .intValue();
+            if (percent < 25) return UNDER_25;
+            if (percent < 50) return FROM_25_TO_50;
+            if (percent < 75) return FROM_50_TO_75;
+            if (percent < 100) return FROM_75_TO_100;
+            return OVER_100;
+        }
+    }
+
+    /**
+     * 색인 대상 프로젝트 한 건
+     */
+    public record Entry(int projectId, Project.Status status, FundingBand band) {
+    }
+
+    /**
+     * 패싯 계산 결과
+     */
+    public record Facets(long total, Map<Project.Status, Long> status, Map<FundingBand, Long> fundingBand) {
+    }
+
+    private static final Project.Status[] STATUSES = Project.Status.values();
+    private static final FundingBand[] BANDS = FundingBand.values();
+
+    /**
+     * 불변으로 다루는 색인 스냅샷 (교체 후에는 수정하지 않음)
+     */
+    private record Snapshot(BitSet all, BitSet[] byStatus, BitSet[] byBand) {
+
+        static Snapshot empty() {
+            return new Snapshot(new BitSet(), newBitSets(STATUSES.length), newBitSets(BANDS.length));
+        }
+
+        Snapshot copy() {
+            return new Snapshot((BitSet) all.clone(), cloneAll(byStatus), cloneAll(byBand));
+        }
+
+        void set(Entry entry) {
+            clear(entry.projectId());
+            all.set(entry.projectId());
+            byStatus[entry.status().ordinal()].set(entry.projectId());
+            byBand[entry.band().ordinal()].set(entry.projectId());
+        }
+
+        void clear(int projectId) {
+            all.clear(projectId);
+            for (BitSet bits : byStatus) bits.clear(projectId);
+            for (BitSet bits : byBand) bits.clear(projectId);
+        }
+    }
+
+    private volatile Snapshot snapshot = Snapshot.empty();
+
+    /**
+     * 색인된 전체 프로젝트 ID 집합 (검색어가 없을 때의 검색 결과)
+     */
+    public BitSet all() {
+        return (BitSet) snapshot.all().clone();
+    }
+
+    /**
+     * 검색 결과 집합에 대한 패싯 건수를 계산합니다.
+     * - 상태 패싯은 상태 필터를 적용하기 전 결과 기준 (다른 상태로 바꿨을 때의 건수를 보여주기 위함).
+     * - 달성률 패싯과 total은 상태 필터까지 적용한 결과 기준.
+     *
+     * @param matches 검색어에 맞는 프로젝트 ID 집합 (색인에 없는 ID는 무시)
+     * @param status  상태 필터 (없으면 null)
+     */
+    public Facets facets(BitSet matches, Project.Status status) {
+        Snapshot current = snapshot;
+
+        BitSet base = (BitSet) matches.clone();
+        base.and(current.all());
+
+        Map<Project.Status, Long> statusCounts = new EnumMap<>(Project.Status.class);
+        for (Project.Status s : STATUSES) {
+            statusCounts.put(s, (long) intersectionSize(base, current.byStatus()[s.ordinal()]));
+        }
+
+        BitSet filtered = base;
+        if (status != null) {
+            filtered.and(current.byStatus()[status.ordinal()]);
+        }
+
+        Map<FundingBand, Long> bandCounts = new EnumMap<>(FundingBand.class);
+        for (FundingBand band : BANDS) {
+            bandCounts.put(band, (long) intersectionSize(filtered, current.byBand()[band.ordinal()]));
+        }
+
+        return new Facets(filtered.cardinality(), statusCounts, bandCounts);
+    }
+
+    public synchronized void upsert(Entry entry) {
+        Snapshot next = snapshot.copy();
+        next.set(entry);
+        snapshot = next;
+    }
+
+    public synchronized void remove(int projectId) {
+        Snapshot next = snapshot.copy();
+        next.clear(projectId);
+        snapshot = next;
+    }
+
+    public synchronized void replaceAll(Collection<Entry> entries) {
+        Snapshot next = Snapshot.empty();
+        entries.forEach(next::set);
+        snapshot = next;
+    }
+
+    public int size() {
+        return snapshot.all().cardinality();
+    }
+
+    private static int intersectionSize(BitSet a, BitSet b) {
+        BitSet copy = (BitSet) a.clone();
+        copy.and(b);
+        return copy.cardinality();
+    }
+
+    private static BitSet[] newBitSets(int count) {
+        BitSet[] bitSets = new BitSet[count];
+        for (int i = 0; i < count; i++) {
+            bitSets[i] = new BitSet();
+        }
+        return bitSets;
+    }
+
+    private static BitSet[] cloneAll(BitSet[] source) {
+        BitSet[] copy = new BitSet[source.length];
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = (BitSet) source[i].clone();
+        }
+        return copy;
+    }
+}
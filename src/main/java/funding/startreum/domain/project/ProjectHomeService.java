@@ -0,0 +1,61 @@
+package funding.startreum.domain.project;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 메인 페이지에 노출할 프로젝트 스냅샷.
+ * - 몇 초마다 정렬 색인에서 트렌딩 / 마감 임박 프로젝트를 골라 메모리에 보관.
+ * - 메인 페이지 요청은 이 스냅샷만 읽으므로 요청당 DB 조회가 없음.
+ * - 내용이 바뀔 때만 버전을 올려, 렌더링된 HTML 캐시가 버전으로 갱신 여부를 판단.
+ */
+@Service
+public class ProjectHomeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectHomeService.class);
+
+    static final int CARD_COUNT = 6;
+
+    /**
+     * 메인 페이지 스냅샷
+     *
+     * @param version    내용이 바뀔 때마다 증가
+     * @param trending   트렌딩 프로젝트
+     * @param endingSoon 마감 임박 프로젝트
+     */
+    public record Snapshot(long version, List<ProjectSearchDto> trending, List<ProjectSearchDto> endingSoon) {
+    }
+
+    private final ProjectSearchService projectSearchService;
+    private volatile Snapshot snapshot = new Snapshot(0, List.of(), List.of());
+
+    public ProjectHomeService(ProjectSearchService projectSearchService) {
+        this.projectSearchService = projectSearchService;
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 5초마다 스냅샷 갱신 (실패하면 이전 스냅샷 유지)
+     */
+    @Scheduled(initialDelay = 5_000, fixedDelay = 5_000)
+    public void refresh() {
+        try {
+            List<ProjectSearchDto> trending = projectSearchService.browse("TRENDING", null, CARD_COUNT).content();
+            List<ProjectSearchDto> endingSoon = projectSearchService.browse("ENDING_SOON", null, CARD_COUNT).content();
+
+            Snapshot current = snapshot;
+            if (!trending.equals(current.trending()) || !endingSoon.equals(current.endingSoon())) {
+                snapshot = new Snapshot(current.version() + 1, trending, endingSoon);
+            }
+        } catch (RuntimeException e) {
+            log.warn("⚠ 메인 페이지 스냅샷 갱신 실패 - 이전 스냅샷 유지", e);
+        }
+    }
+}
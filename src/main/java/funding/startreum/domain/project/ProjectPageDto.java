@@ -0,0 +1,33 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.domain.comment.dto.response.CommentPageResponse;
+import funding.startreum.domain.reward.dto.response.RewardResponse;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 프로젝트 페이지 한 번에 필요한 정보를 묶은 DTO.
+ * - 시간 안에 조회하지 못한 부분은 null이며, 그 이름이 `missing`에 담김.
+ *
+ * @param detail       프로젝트 상세
+ * @param rewards      리워드 목록
+ * @param comments     댓글 첫 페이지 (이어서 조회할 nextCursor 포함)
+ * @param fundingStats 후원 통계
+ * @param missing      제외된 부분 (detail, rewards, comments, fundingStats)
+ */
+public record ProjectPageDto(
+        ProjectDetailDto detail,
+        List<RewardResponse> rewards,
+        CommentPageResponse comments,
+        FundingStats fundingStats,
+        List<String> missing
+) {
+    /**
+     * @param sponsorCount 후원자 수
+     * @param fundingCount 후원 건수
+     * @param recentAmount 최근 7일 후원 합계
+     */
+    public record FundingStats(long sponsorCount, long fundingCount, BigDecimal recentAmount) {
+    }
+}
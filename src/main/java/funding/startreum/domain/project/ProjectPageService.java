@@ -0,0 +1,119 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.domain.comment.dto.response.CommentPageResponse;
+import funding.startreum.domain.comment.service.CommentService;
+import funding.startreum.domain.funding.repository.FundingRepository;
+import funding.startreum.domain.reward.dto.response.RewardResponse;
+import funding.startreum.domain.reward.service.RewardService;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 프로젝트 페이지 조합 서비스.
+ * - 상세, 리워드, 댓글 첫 페이지, 후원 통계를 가상 스레드에서 동시에 조회해 한 응답으로 묶음.
+ * - 부분마다 같은 마감 시각을 두고, 늦은 부분은 빼고(missing) 나머지만 반환.
+ *   늦은 부분은 실행 중인 가상 스레드를 인터럽트해 멈추므로, 부하가 몰려도 마감이 지난 조회가 쌓이지 않음.
+ * - 상세 조회가 실패하면(없는 프로젝트 등) 페이지 전체가 의미 없으므로 그 예외를 그대로 던짐.
+ */
+@Service
+public class ProjectPageService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectPageService.class);
+
+    static final Duration PART_TIMEOUT = Duration.ofMillis(800);
+    private static final int RECENT_DAYS = 7;
+
+    private final ProjectDetailService projectDetailService;
+    private final RewardService rewardService;
+    private final CommentService commentService;
+    private final FundingRepository fundingRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public ProjectPageService(ProjectDetailService projectDetailService, RewardService rewardService,
+                              CommentService commentService, FundingRepository fundingRepository) {
+        this.projectDetailService = projectDetailService;
+        this.rewardService = rewardService;
+        this.commentService = commentService;
+        this.fundingRepository = fundingRepository;
+    }
+
+    public ProjectPageDto getProjectPage(Integer projectId) {
+        Future<ProjectDetailDto> detail = submit(() -> projectDetailService.getProjectDetail(projectId));
+        Future<List<RewardResponse>> rewards = submit(() -> rewardService.generateRewardsResponse(projectId));
+        Future<CommentPageResponse> comments = // 댓글 API와 같은 캐시(CommentPageCache)를 거침
+                submit(() -> commentService.generateCommentsResponse(projectId, null, CommentService.DEFAULT_PAGE_SIZE));
+        Future<ProjectPageDto.FundingStats> fundingStats = submit(() -> loadFundingStats(projectId));
+
+        long deadline = System.nanoTime() + PART_TIMEOUT.toNanos();
+        List<String> missing = new ArrayList<>();
+
+        ProjectDetailDto detailResult = await(detail, deadline, "detail", projectId, missing, true);
+        return new ProjectPageDto(
+                detailResult,
+                await(rewards, deadline, "rewards", projectId, missing, false),
+                await(comments, deadline, "comments", projectId, missing, false),
+                await(fundingStats, deadline, "fundingStats", projectId, missing, false),
+                missing
+        );
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ProjectPageDto.FundingStats loadFundingStats(Integer projectId) {
+        FundingRepository.FundingStats stats = fundingRepository.getFundingStats(projectId);
+        return new ProjectPageDto.FundingStats(
+                stats.getSponsorCount(),
+                stats.getFundingCount(),
+                fundingRepository.sumRecentAmountByProjectId(projectId, LocalDateTime.now().minusDays(RECENT_DAYS))
+        );
+    }
+
+    /**
+     * ExecutorService로 제출해야 cancel(true)가 실행 중인 스레드를 실제로 인터럽트합니다.
+     * (CompletableFuture.cancel은 결과만 취소하고 작업은 계속 실행됨)
+     */
+    private <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    /**
+     * 마감 시각까지 결과를 기다립니다. 늦거나 실패한 부분은 missing에 기록하고 null을 반환합니다.
+     *
+     * @param required true면 실패 예외를 그대로 던짐 (시간 초과는 제외)
+     */
+    private <T> T await(Future<T> future, long deadline, String part, Integer projectId,
+                        List<String> missing, boolean required) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            log.warn("⏱ 프로젝트 페이지 부분 조회 시간 초과 - projectId: {}, part: {}", projectId, part);
+        } catch (ExecutionException e) {
+            if (required && e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            log.warn("⚠ 프로젝트 페이지 부분 조회 실패 - projectId: {}, part: {}", projectId, part, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        missing.add(part);
+        return null;
+    }
+}
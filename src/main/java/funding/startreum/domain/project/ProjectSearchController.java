@@ -17,20 +17,31 @@ import java.util.Map;
 public class ProjectSearchController {
 
     private final ProjectSearchService projectSearchService;
+    private final ProjectSuggestService projectSuggestService;
+    private final ProjectSimilarService projectSimilarService;
 
-    public ProjectSearchController(ProjectSearchService projectSearchService) {
+    public ProjectSearchController(ProjectSearchService projectSearchService,
+                                   ProjectSuggestService projectSuggestService,
+                                   ProjectSimilarService projectSimilarService) {
         this.projectSearchService = projectSearchService;
+        this.projectSuggestService = projectSuggestService;
+        this.projectSimilarService = projectSimilarService;
     }
 
     /**
      * 🔹 검색 API
      * - `/api/projects/search` : 전체 승인된 프로젝트 조회
-     * - `/api/projects/search/{query}` : 특정 검색어에 맞는 프로젝트 조회
+     * - `/api/projects/search?query=` : 특정 검색어에 맞는 프로젝트 조회
+     * - `/api/projects/search?sort=` : 검색어 없이 진행중 프로젝트를 정렬 기준(ENDING_SOON, CLOSEST_TO_GOAL, TRENDING)으로 조회
+     * - 다음 페이지는 응답의 `nextCursor`를 `cursor`로 넘겨 조회 (`page`는 커서가 없을 때만 사용)
+     * - `totalResults`와 `facets`(상태별 / 달성률 구간별 건수)는 전체 검색 결과 기준
      */
     @GetMapping("/search")
     public Map<String, Object> searchProjects(
             @RequestParam(required = false) String query, // ✅ @RequestParam 사용
             @RequestParam(required = false) String status,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ) {
@@ -38,16 +49,68 @@ public class ProjectSearchController {
             query = query.replaceAll("[^a-zA-Z0-9가-힣]", "").trim();
         }
 
-        List<ProjectSearchDto> projects = (query == null || query.isBlank())
-                ? projectSearchService.getAllApprovedProjects(page, size)
-                : projectSearchService.searchProjects(query, status, page, size);
+        ProjectSearchSlice projects = (sort != null && !sort.isBlank() && (query == null || query.isEmpty()))
+                ? projectSearchService.browse(sort, cursor, size)
+                : projectSearchService.searchProjects(query, status, cursor, page, size);
 
         Map<String, Object> response = new HashMap<>();
         response.put("status", "success");
         response.put("message", "프로젝트 검색 성공");
-        response.put("totalResults", projects.size());
-        response.put("data", projects);
+        response.put("totalResults", projects.facets().total());
+        response.put("facets", Map.of(
+                "status", projects.facets().status(),
+                "fundingBand", projects.facets().fundingBand()
+        ));
+        response.put("hasNext", projects.hasNext());
+        response.put("nextCursor", projects.nextCursor());
+        response.put("data", projects.content());
         return response;
     }
 
-}
\ No newline at end of file
+    /**
+     * 🔹 자동완성 API
+     * - `/api/projects/suggest?prefix=` : 접두어로 시작하는 단어를 제목에 포함한 프로젝트 (메모리 색인, DB 조회 없음)
+     */
+    @GetMapping("/suggest")
+    public Map<String, Object> suggestProjects(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        List<ProjectSuggestTrie.Suggestion> suggestions = projectSuggestService.suggest(prefix, size);
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "자동완성 조회 성공");
+        response.put("data", suggestions);
+        return response;
+    }
+
+    /**
+     * 🔹 상세 설명 API
+     * - 검색 목록에는 설명(@Lob)을 싣지 않으므로, 필요한 카드만 `/api/projects/{projectId}/description`으로 따로 조회.
+     */
+    @GetMapping("/{projectId}/description")
+    public Map<String, Object> getProjectDescription(@PathVariable Integer projectId) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "프로젝트 설명 조회 성공");
+        response.put("data", projectSearchService.getApprovedDescription(projectId));
+        return response;
+    }
+
+    /**
+     * 🔹 비슷한 프로젝트 API
+     * - `/api/projects/{projectId}/similar` : 제목/설명이 비슷한 프로젝트 (메모리 MinHash 색인, DB 조회 없음)
+     */
+    @GetMapping("/{projectId}/similar")
+    public Map<String, Object> getSimilarProjects(
+            @PathVariable Integer projectId,
+            @RequestParam(defaultValue = "5") int size
+    ) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("status", "success");
+        response.put("message", "비슷한 프로젝트 조회 성공");
+        response.put("data", projectSimilarService.similar(projectId, size));
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package funding.startreum.domain.project;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 검색 키셋 페이지네이션 커서.
+ * - 클라이언트에는 이전 페이지 마지막 프로젝트 ID를 감싼 불투명한 문자열로 전달.
+ * - 정렬 둘러보기는 (정렬 기준, 정렬 값, 프로젝트 ID)를 감싼 커서를 사용.
+ */
+public final class ProjectSearchCursor {
+
+    private static final String PREFIX = "id:";
+    private static final String SORT_PREFIX = "sort:";
+
+    private ProjectSearchCursor() {
+    }
+
+    public static String encode(Integer lastProjectId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastProjectId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 클라이언트가 보낸 커서 (없으면 첫 페이지)
+     * @return 이 ID보다 작은 프로젝트부터 조회
+     */
+    public static Integer decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return Integer.MAX_VALUE;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return Integer.valueOf(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public static String encode(ProjectSortIndex.SortOrder order, ProjectSortIndex.Position position) {
+        String raw = SORT_PREFIX + order.name() + ":" + position.key() + ":" + position.projectId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor 클라이언트가 보낸 정렬 커서 (없으면 첫 페이지)
+     * @param order  요청한 정렬 기준 (커서를 만든 정렬 기준과 같아야 함)
+     * @return 이 위치 다음부터 조회 (첫 페이지는 null)
+     */
+    public static ProjectSortIndex.Position decode(String cursor, ProjectSortIndex.SortOrder order) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 4 || !(parts[0] + ":").equals(SORT_PREFIX) || !parts[1].equals(order.name())) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new ProjectSortIndex.Position(Double.parseDouble(parts[2]), Integer.parseInt(parts[3]));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -9,13 +9,13 @@ import java.time.LocalDateTime;
 /**
  * 프로젝트 검색 결과를 반환하는 DTO.
  * record를 사용하여 불변 객체로 설계.
+ * - 목록 카드에 필요한 컬럼만 담음. 상세 설명(description)은 `/api/projects/{projectId}/description`으로 따로 조회.
  */
 public record ProjectSearchDto(
         Integer projectId,      // 프로젝트 고유 ID
         String title,           // 프로젝트 제목
         String simpleDescription, // 간단한 설명
         String bannerUrl,       // 배너 이미지 URL
-        String description,     // 프로젝트 설명
         BigDecimal fundingGoal, // 목표 금액
         BigDecimal currentFunding, // 현재 펀딩 금액
         LocalDateTime startDate,   // 시작 날짜
@@ -23,25 +23,32 @@ public record ProjectSearchDto(
         Project.Status status,      // 프로젝트 상태 (ONGOING, SUCCESS, FAILED)
         Long daysLeft  // 남은 일수 추가
 ) {
+    /**
+     * JPQL 생성자 프로젝션용 생성자 (남은 일수는 조회 시점 기준으로 계산).
+     */
+    public ProjectSearchDto(Integer projectId, String title, String simpleDescription, String bannerUrl,
+                            BigDecimal fundingGoal, BigDecimal currentFunding,
+                            LocalDateTime startDate, LocalDateTime endDate, Project.Status status) {
+        this(projectId, title, simpleDescription, bannerUrl, fundingGoal, currentFunding, startDate, endDate, status,
+                Duration.between(LocalDateTime.now(), endDate).toDays());
+    }
+
     /**
      * Project 엔티티를 ProjectSearchDto로 변환하는 정적 메서드.
      * @param project 변환할 Project 엔티티
      * @return 변환된 ProjectSearchDto 객체
      */
     public static ProjectSearchDto from(Project project) {
-        long daysLeft = Duration.between(LocalDateTime.now(), project.getEndDate()).toDays();
         return new ProjectSearchDto(
                 project.getProjectId(),
                 project.getTitle(),
                 project.getSimpleDescription(),
                 project.getBannerUrl(),
-                project.getDescription(),
                 project.getFundingGoal(),
                 project.getCurrentFunding(),
                 project.getStartDate(),
                 project.getEndDate(),
-                project.getStatus(),
-                daysLeft
+                project.getStatus()
         );
     }
-}
\ No newline at end of file
+}
@@ -2,12 +2,17 @@ package funding.startreum.domain.project;
 
 
 import funding.startreum.domain.project.entity.Project;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 /**
  * 프로젝트 검색을 위한 JPA Repository 인터페이스.
  * - 승인된 프로젝트만 검색하도록 설정 (`isApproved = 'APPROVE'`)
@@ -15,34 +20,112 @@ import org.springframework.data.repository.query.Param;
 public interface ProjectSearchRepository extends JpaRepository<Project, Integer> {
 
     /**
-     * 특정 상태를 가진 프로젝트 중 제목 또는 설명에 특정 키워드가 포함된 프로젝트 검색 (승인된 프로젝트만).
+     * 목록 카드에 필요한 컬럼만 선택하는 생성자 프로젝션.
+     * - `description`(@Lob)과 `creator`는 읽지 않음.
+     */
+    String LISTING_SELECT = "SELECT new funding.startreum.domain.project.ProjectSearchDto(" +
+            "p.projectId, p.title, p.simpleDescription, p.bannerUrl, p.fundingGoal, p.currentFunding, " +
+            "p.startDate, p.endDate, p.status) FROM Project p ";
+
+    /**
+     * 제목 또는 설명에 키워드가 포함되는지 대소문자 구분 없이 비교하는 조건.
+     * - 양쪽을 모두 소문자로 바꾸므로 DB 콜레이션과 상관없이 "Smart"와 "smart"가 같은 결과를 냄 (검색 캐시 키와 일치).
+     */
+    String KEYWORD_MATCH = "(LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))) ";
+
+    /**
+     * 검색어 없이 모든 승인된 프로젝트 조회
      *
-     * @param keyword  검색할 키워드 (제목 또는 설명)
-     * @param status   프로젝트 상태 (ONGOING, SUCCESS, FAILED)
-     * @param pageable 페이지네이션 정보
-     * @return 검색된 프로젝트 목록 (페이지 형식)
+     * @param cursor   이전 페이지 마지막 프로젝트 ID (첫 페이지는 Integer.MAX_VALUE)
+     * @param pageable 조회 크기
+     * @return 승인된 전체 프로젝트 목록 (다음 페이지 존재 여부 포함)
      */
-    @Query("SELECT p FROM Project p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
-            "AND p.status = :status AND p.isApproved = 'APPROVE'")
-    Page<Project> searchByKeywordAndStatus(@Param("keyword") String keyword, @Param("status") Project.Status status, Pageable pageable);
+    @Query(LISTING_SELECT + "WHERE p.isApproved = 'APPROVE' AND p.projectId < :cursor ORDER BY p.projectId DESC")
+    Slice<ProjectSearchDto> findAllApproved(@Param("cursor") Integer cursor, Pageable pageable);
 
     /**
-     * 제목 또는 설명에 특정 키워드가 포함된 승인된 프로젝트 검색 (상태 필터링 없음).
+     * 정렬 색인이 고른 프로젝트들의 목록 정보를 기본 키로 조회 (순서는 호출자가 맞춤)
      *
-     * @param keyword  검색할 키워드 (제목 또는 설명)
-     * @param pageable 페이지네이션 정보
-     * @return 검색된 프로젝트 목록 (페이지 형식)
+     * @param projectIds 프로젝트 ID 목록 (한 페이지 분량)
+     * @return 승인된 프로젝트 목록
      */
-    @Query("SELECT p FROM Project p WHERE (p.title LIKE %:keyword% OR p.description LIKE %:keyword%) " +
-            "AND p.isApproved = 'APPROVE'")
-    Page<Project> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query(LISTING_SELECT + "WHERE p.projectId IN :projectIds AND p.isApproved = 'APPROVE'")
+    List<ProjectSearchDto> findListingsByIds(@Param("projectIds") List<Integer> projectIds);
 
     /**
-     * 검색어 없이 모든 승인된 프로젝트 조회
+     * 검색어에 맞는 승인된 프로젝트의 ID와 상태를 ID 내림차순으로 조회.
+     * - 한 번의 스캔으로 페이지(커서 / 상태 필터)와 패싯 건수를 모두 계산하므로, 페이지 제한 없이 전체를 읽음.
      *
-     * @param pageable 페이지네이션 정보
-     * @return 승인된 전체 프로젝트 목록 (페이지 형식)
+     * @param keyword 검색할 키워드 (제목 또는 설명)
+     * @return 프로젝트 ID와 상태 목록
+     */
+    @Query("SELECT p.projectId AS projectId, p.status AS status FROM Project p WHERE " + KEYWORD_MATCH +
+            "AND p.isApproved = 'APPROVE' ORDER BY p.projectId DESC")
+    List<KeywordMatch> findApprovedMatchesByKeyword(@Param("keyword") String keyword);
+
+    /**
+     * 패싯 색인 대상(승인된 프로젝트)의 상태와 모금 현황 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.status AS status, p.fundingGoal AS fundingGoal, " +
+            "p.currentFunding AS currentFunding FROM Project p WHERE p.isApproved = 'APPROVE'")
+    List<FacetSource> findFacetSources();
+
+    /**
+     * 특정 프로젝트가 패싯 색인 대상이면 상태와 모금 현황을 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.status AS status, p.fundingGoal AS fundingGoal, " +
+            "p.currentFunding AS currentFunding FROM Project p WHERE p.projectId = :projectId AND p.isApproved = 'APPROVE'")
+    Optional<FacetSource> findFacetSourceById(@Param("projectId") Integer projectId);
+
+    /**
+     * 정렬 색인 대상(승인된 진행중 프로젝트)의 종료일과 모금 현황 조회
      */
-    @Query("SELECT p FROM Project p WHERE p.isApproved = 'APPROVE'")
-    Page<Project> findAllApproved(Pageable pageable);
-}
\ No newline at end of file
+    @Query("SELECT p.projectId AS projectId, p.endDate AS endDate, p.fundingGoal AS fundingGoal, " +
+            "p.currentFunding AS currentFunding FROM Project p " +
+            "WHERE p.isApproved = 'APPROVE' AND p.status = 'ONGOING' AND p.isDeleted = false")
+    List<SortSource> findSortSources();
+
+    /**
+     * 특정 프로젝트가 정렬 색인 대상이면 종료일과 모금 현황을 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.endDate AS endDate, p.fundingGoal AS fundingGoal, " +
+            "p.currentFunding AS currentFunding FROM Project p " +
+            "WHERE p.projectId = :projectId AND p.isApproved = 'APPROVE' AND p.status = 'ONGOING' AND p.isDeleted = false")
+    Optional<SortSource> findSortSourceById(@Param("projectId") Integer projectId);
+
+    /**
+     * 프로젝트 설명(@Lob)만 따로 조회 (목록에서 필요한 경우 지연 로딩용)
+     *
+     * @param projectId 프로젝트 ID
+     * @return 승인된 프로젝트의 설명
+     */
+    @Query("SELECT p.description FROM Project p WHERE p.projectId = :projectId AND p.isApproved = 'APPROVE'")
+    Optional<String> findApprovedDescriptionById(@Param("projectId") Integer projectId);
+
+    interface KeywordMatch {
+        Integer getProjectId();
+
+        Project.Status getStatus();
+    }
+
+    interface FacetSource {
+        Integer getProjectId();
+
+        Project.Status getStatus();
+
+        BigDecimal getFundingGoal();
+
+        BigDecimal getCurrentFunding();
+    }
+
+    interface SortSource {
+        Integer getProjectId();
+
+        LocalDateTime getEndDate();
+
+        BigDecimal getFundingGoal();
+
+        BigDecimal getCurrentFunding();
+    }
+}
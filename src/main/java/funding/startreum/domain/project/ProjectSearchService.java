@@ -1,61 +1,334 @@
 package funding.startreum.domain.project;
 
 
+import funding.startreum.common.cache.SingleFlightCache;
+import funding.startreum.domain.funding.repository.FundingRepository;
 import funding.startreum.domain.project.entity.Project;
-import org.springframework.data.domain.Page;
+import funding.startreum.domain.project.event.ProjectChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 프로젝트 검색을 담당하는 서비스 클래스.
  * - 프로젝트 제목 또는 설명을 기반으로 검색 가능.
  * - 프로젝트 상태(ONGOING, SUCCESS, FAILED) 필터링 가능.
  * - 승인된(`APPROVE`) 프로젝트만 조회 가능.
+ * - 프로젝트 ID 내림차순 키셋 페이지네이션(커서)으로 깊은 페이지도 O(페이지 크기)로 조회.
+ * - 검색 결과는 (검색어, 상태, 커서, 크기) 단위로 짧게 캐시하며, 동시에 같은 검색이 몰리면 DB 조회는 한 번만 수행.
+ * - 검색어마다 (ID, 상태) 목록을 한 번만 스캔해 캐시하고, 페이지(커서 / 상태 필터)와 패싯 건수를 모두 이 결과에서 계산
+ *   (페이지 조회와 패싯 조회가 LIKE 스캔을 따로 하지 않으며, 패싯마다 COUNT 쿼리도 실행하지 않음).
+ * - 진행중 프로젝트 둘러보기(마감 임박 / 목표 근접 / 트렌딩)는 메모리 정렬 색인으로 페이지를 고른 뒤 기본 키로만 조회.
  */
 @Service
 public class ProjectSearchService {
 
+    private static final int CACHE_MAX_SIZE = 1_000;
+    private static final Duration CACHE_TTL = Duration.ofSeconds(10); // 결과 / 매치 캐시 공통 (매치의 상태가 결과보다 오래 남지 않도록)
+    private static final int TRENDING_DAYS = 7;
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSearchService.class);
+
     private final ProjectSearchRepository projectSearchRepository;
+    private final FundingRepository fundingRepository;
+    private final ProjectFacetIndex facetIndex = new ProjectFacetIndex();
+    private final ProjectSortIndex sortIndex = new ProjectSortIndex();
+    private final SingleFlightCache<SearchKey, ProjectSearchSlice> resultCache;
+    private final SingleFlightCache<String, KeywordMatches> matchCache;
 
-    public ProjectSearchService(ProjectSearchRepository projectSearchRepository) {
+    public ProjectSearchService(ProjectSearchRepository projectSearchRepository, FundingRepository fundingRepository,
+                                MeterRegistry meterRegistry) {
         this.projectSearchRepository = projectSearchRepository;
+        this.fundingRepository = fundingRepository;
+        this.resultCache = new SingleFlightCache<SearchKey, ProjectSearchSlice>("projectSearch", CACHE_MAX_SIZE, CACHE_TTL)
+                .bindTo(meterRegistry);
+        this.matchCache = new SingleFlightCache<String, KeywordMatches>("projectSearchMatches", CACHE_MAX_SIZE, CACHE_TTL)
+                .bindTo(meterRegistry);
     }
 
     /**
-     * 검색 조건에 따라 프로젝트 조회
+     * 검색 조건에 따라 프로젝트 조회 (패싯 건수 포함)
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param page   커서가 없을 때만 사용하는 오프셋 페이지 (하위 호환용)
      */
-    public List<ProjectSearchDto> searchProjects(String query, String status, int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Project> projectPage;
-
+    public ProjectSearchSlice searchProjects(String query, String status, String cursor, int page, int size) {
         // ✅ 검색어가 없을 경우 전체 승인된 프로젝트 조회
         if (query == null || query.trim().isEmpty()) {
-            return getAllApprovedProjects(page, size);
+            return getAllApprovedProjects(cursor, page, size);
         }
 
         // ✅ 검색어가 있을 경우 상태 필터링 적용
-        if (status != null && !status.isEmpty()) {
-            try {
-                Project.Status projectStatus = Project.Status.valueOf(status.toUpperCase());
-                projectPage = projectSearchRepository.searchByKeywordAndStatus(query, projectStatus, pageable);
-            } catch (IllegalArgumentException e) {
-                throw new IllegalArgumentException("잘못된 상태값입니다. 허용되는 값: ONGOING, SUCCESS, FAILED");
-            }
-        } else {
-            projectPage = projectSearchRepository.searchByKeyword(query, pageable);
+        SearchKey key = new SearchKey(normalize(query), parseStatus(status), ProjectSearchCursor.decode(cursor),
+                hasCursor(cursor) ? 0 : page, size);
+        return resultCache.get(key, () -> loadSearch(key))
+                .withFacets(facetIndex.facets(matchesOf(key.query()).ids(), key.status()));
+    }
+
+    /**
+     * 전체 승인된 프로젝트 조회
+     */
+    public ProjectSearchSlice getAllApprovedProjects(String cursor, int page, int size) {
+        SearchKey key = new SearchKey("", null, ProjectSearchCursor.decode(cursor), hasCursor(cursor) ? 0 : page, size);
+        return resultCache.get(key, () -> toSearchSlice(
+                        projectSearchRepository.findAllApproved(key.cursor(), key.pageable())))
+                .withFacets(facetIndex.facets(facetIndex.all(), null));
+    }
+
+    /**
+     * 진행중 프로젝트를 정렬 기준에 따라 둘러보기
+     *
+     * @param sort   ENDING_SOON, CLOSEST_TO_GOAL, TRENDING
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     */
+    public ProjectSearchSlice browse(String sort, String cursor, int size) {
+        ProjectSortIndex.SortOrder order = ProjectSortIndex.SortOrder.from(sort);
+        List<ProjectSortIndex.Ranked> ranked = sortIndex.page(order, ProjectSearchCursor.decode(cursor, order), size + 1);
+        boolean hasNext = ranked.size() > size;
+        List<ProjectSortIndex.Ranked> page = hasNext ? ranked.subList(0, size) : ranked;
+
+        List<ProjectSearchDto> content = listingsOf(page.stream().map(ProjectSortIndex.Ranked::projectId).toList());
+        String nextCursor = hasNext
+                ? ProjectSearchCursor.encode(order, sortIndex.positionOf(order, page.get(page.size() - 1)))
+                : null;
+        return new ProjectSearchSlice(content, hasNext, nextCursor, null)
+                .withFacets(facetIndex.facets(facetIndex.all(), Project.Status.ONGOING));
+    }
+
+    /**
+     * 패싯 / 정렬 색인 전체 재구성 (기동 시 + 10분마다, 스케줄러가 바꾼 상태 반영)
+     * 캐시된 매치의 상태도 바뀌었을 수 있으므로 검색 캐시를 함께 비웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    @Transactional(readOnly = true)
+    public void rebuildIndexes() {
+        List<ProjectFacetIndex.Entry> entries = projectSearchRepository.findFacetSources().stream()
+                .map(ProjectSearchService::toFacetEntry)
+                .toList();
+        facetIndex.replaceAll(entries);
+
+        LocalDateTime now = LocalDateTime.now();
+        Map<Integer, BigDecimal> goals = new HashMap<>();
+        List<ProjectSearchRepository.SortSource> sources = projectSearchRepository.findSortSources();
+        sources.forEach(source -> goals.put(source.getProjectId(), source.getFundingGoal()));
+
+        Map<Integer, Double> trending = new HashMap<>();
+        fundingRepository.findRecentFundings(now.minusDays(TRENDING_DAYS)).stream()
+                .filter(funding -> goals.containsKey(funding.getProjectId()))
+                .forEach(funding -> trending.merge(funding.getProjectId(),
+                        ratio(funding.getAmount(), goals.get(funding.getProjectId()))
+                                * ProjectSortIndex.decayWeight(funding.getFundedAt(), now),
+                        Double::sum));
+
+        sortIndex.replaceAll(sources.stream()
+                .map(source -> ProjectSortIndex.Ranked.of(source.getProjectId(), source.getEndDate(),
+                        ratio(source.getCurrentFunding(), source.getFundingGoal()),
+                        trending.getOrDefault(source.getProjectId(), 0.0)))
+                .toList(), now);
+        invalidateCaches();
+
+        log.info("🔎 검색 색인 완료 - 패싯: {}, 정렬: {}", entries.size(), sources.size());
+    }
+
+    /**
+     * 프로젝트가 바뀌면 패싯 / 정렬 색인에서 해당 프로젝트만 갱신합니다. (후원/환불은 트렌딩 점수에 바로 반영)
+     * 승인/상태/내용이 바뀌면 검색 결과가 달라지므로 캐시도 비웁니다. (모금액 변경은 TTL 안에서 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        Integer projectId = event.getProjectId();
+        projectSearchRepository.findFacetSourceById(projectId).ifPresentOrElse(
+                source -> facetIndex.upsert(toFacetEntry(source)),
+                () -> facetIndex.remove(projectId)
+        );
+        projectSearchRepository.findSortSourceById(projectId).ifPresentOrElse(
+                source -> {
+                    sortIndex.upsert(projectId, source.getEndDate(), ratio(source.getCurrentFunding(), source.getFundingGoal()));
+                    if (event.getFundingDelta().signum() != 0) {
+                        sortIndex.addFunding(projectId, ratio(event.getFundingDelta(), source.getFundingGoal()),
+                                LocalDateTime.now());
+                    }
+                },
+                () -> sortIndex.remove(projectId)
+        );
+
+        if (event.getType() != ProjectChangedEvent.ChangeType.FUNDING) {
+            invalidateCaches();
         }
+    }
+
+    /**
+     * 검색 결과 / 검색어별 매치 캐시 비우기
+     */
+    void invalidateCaches() {
+        resultCache.invalidateAll();
+        matchCache.invalidateAll();
+    }
 
-        return projectPage.map(ProjectSearchDto::from).toList();
+    /**
+     * 승인된 프로젝트의 상세 설명만 조회합니다. (목록 응답에는 포함하지 않음)
+     */
+    public String getApprovedDescription(Integer projectId) {
+        return projectSearchRepository.findApprovedDescriptionById(projectId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: " + projectId));
     }
 
     /**
-     * 전체 승인된 프로젝트 조회
+     * 검색어의 매치 목록에서 한 페이지 분량의 ID를 고른 뒤, 목록 정보는 기본 키로만 조회
+     */
+    private ProjectSearchSlice loadSearch(SearchKey key) {
+        List<Integer> ids = matchesOf(key.query())
+                .page(key.status(), key.cursor(), key.page() * key.size(), key.size() + 1);
+        boolean hasNext = ids.size() > key.size();
+        List<Integer> pageIds = hasNext ? ids.subList(0, key.size()) : ids;
+
+        String nextCursor = hasNext ? ProjectSearchCursor.encode(pageIds.get(pageIds.size() - 1)) : null;
+        return new ProjectSearchSlice(listingsOf(pageIds), hasNext, nextCursor, null);
+    }
+
+    /**
+     * ID 순서를 유지하며 목록 정보 조회 (그 사이 승인이 취소된 프로젝트는 빠짐)
      */
-    public List<ProjectSearchDto> getAllApprovedProjects(int page, int size) {
-        Pageable pageable = PageRequest.of(page, size);
-        return projectSearchRepository.findAllApproved(pageable).map(ProjectSearchDto::from).toList();
+    private List<ProjectSearchDto> listingsOf(List<Integer> projectIds) {
+        if (projectIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Integer, ProjectSearchDto> rows = projectSearchRepository.findListingsByIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectSearchDto::projectId, Function.identity()));
+        return projectIds.stream().map(rows::get).filter(Objects::nonNull).toList();
+    }
+
+    private static ProjectSearchSlice toSearchSlice(Slice<ProjectSearchDto> slice) {
+        List<ProjectSearchDto> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty()
+                ? ProjectSearchCursor.encode(content.get(content.size() - 1).projectId())
+                : null;
+        return new ProjectSearchSlice(content, slice.hasNext(), nextCursor, null);
+    }
+
+    /**
+     * 검색어에 맞는 프로젝트 목록 (페이지와 무관하므로 검색어 단위로 캐시, LIKE 스캔은 캐시 미스마다 한 번)
+     */
+    private KeywordMatches matchesOf(String query) {
+        return matchCache.get(query, () -> KeywordMatches.of(projectSearchRepository.findApprovedMatchesByKeyword(query)));
+    }
+
+    /**
+     * 목표 금액 대비 비율 (목표가 없으면 금액 그대로)
+     */
+    private static double ratio(BigDecimal amount, BigDecimal fundingGoal) {
+        double value = amount == null ? 0 : amount.doubleValue();
+        return fundingGoal == null || fundingGoal.signum() <= 0 ? value : value / fundingGoal.doubleValue();
+    }
+
+    private static ProjectFacetIndex.Entry toFacetEntry(ProjectSearchRepository.FacetSource source) {
+        return new ProjectFacetIndex.Entry(source.getProjectId(), source.getStatus(),
+                ProjectFacetIndex.FundingBand.of(source.getCurrentFunding(), source.getFundingGoal()));
+    }
+
+    private static Project.Status parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return Project.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 상태값입니다. 허용되는 값: ONGOING, SUCCESS, FAILED");
+        }
+    }
+
+    private static String normalize(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean hasCursor(String cursor) {
+        return cursor != null && !cursor.isBlank();
+    }
+
+    /**
+     * 검색 결과 캐시 키 (검색어는 소문자로 정규화, 저장소 검색도 대소문자를 구분하지 않으므로 결과가 같음)
+     */
+    private record SearchKey(String query, Project.Status status, Integer cursor, int page, int size) {
+        Pageable pageable() {
+            return PageRequest.of(page, size);
+        }
+    }
+
+    /**
+     * 검색어에 맞는 프로젝트의 ID(내림차순)와 상태, 패싯 교집합용 ID 집합
+     */
+    record KeywordMatches(int[] projectIds, Project.Status[] statuses, BitSet ids) {
+
+        static KeywordMatches of(List<ProjectSearchRepository.KeywordMatch> matches) {
+            int[] projectIds = new int[matches.size()];
+            Project.Status[] statuses = new Project.Status[matches.size()];
+            BitSet ids = new BitSet();
+            for (int i = 0; i < matches.size(); i++) {
+                projectIds[i] = matches.get(i).getProjectId();
+                statuses[i] = matches.get(i).getStatus();
+                ids.set(projectIds[i]);
+            }
+            return new KeywordMatches(projectIds, statuses, ids);
+        }
+
+        /**
+         * 커서보다 작은 ID 중 상태가 맞는 항목을 `skip`개 건너뛰고 최대 `limit`개 반환
+         */
+        List<Integer> page(Project.Status status, int cursor, int skip, int limit) {
+            List<Integer> page = new ArrayList<>(limit);
+            for (int i = firstBelow(cursor); i < projectIds.length && page.size() < limit; i++) {
+                if (status != null && statuses[i] != status) {
+                    continue;
+                }
+                if (skip > 0) {
+                    skip--;
+                } else {
+                    page.add(projectIds[i]);
+                }
+            }
+            return page;
+        }
+
+        /**
+         * 내림차순 ID 배열에서 커서보다 작은 첫 위치 (이진 탐색)
+         */
+        private int firstBelow(int cursor) {
+            int low = 0;
+            int high = projectIds.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (projectIds[mid] >= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,22 @@
+package funding.startreum.domain.project;
+
+import java.util.List;
+
+/**
+ * 검색 결과 한 페이지.
+ *
+ * @param content    프로젝트 목록
+ * @param hasNext    다음 페이지 존재 여부
+ * @param nextCursor 다음 페이지 조회용 커서 (마지막 페이지면 null)
+ * @param facets     전체 검색 결과의 상태별 / 달성률 구간별 건수
+ */
+public record ProjectSearchSlice(
+        List<ProjectSearchDto> content,
+        boolean hasNext,
+        String nextCursor,
+        ProjectFacetIndex.Facets facets
+) {
+    public ProjectSearchSlice withFacets(ProjectFacetIndex.Facets facets) {
+        return new ProjectSearchSlice(content, hasNext, nextCursor, facets);
+    }
+}
@@ -0,0 +1,112 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.domain.project.event.ProjectChangedEvent;
+import funding.startreum.domain.project.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 비슷한 프로젝트 추천 서비스.
+ * - 백그라운드 작업이 승인된 프로젝트의 MinHash 서명과 LSH 버킷을 메모리에 만들고, 조회는 메모리에서만 응답.
+ * - 제목/설명이 바뀌거나 승인/삭제된 프로젝트는 이벤트로 해당 프로젝트만 다시 색인.
+ * - 전체 재색인 중에 바뀐 프로젝트는 기록해 두었다가, 새 색인으로 교체한 직후 다시 색인 (교체로 변경이 사라지지 않음).
+ */
+@Service
+public class ProjectSimilarService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSimilarService.class);
+
+    private static final int MAX_SIZE = 10;
+    private static final int BATCH_SIZE = 200;
+
+    private final ProjectRepository projectRepository;
+    private volatile ProjectSimilarityIndex index = new ProjectSimilarityIndex();
+    private Set<Integer> changedDuringRebuild; // 재색인 중에만 존재 (this로 동기화)
+
+    public ProjectSimilarService(ProjectRepository projectRepository) {
+        this.projectRepository = projectRepository;
+    }
+
+    /**
+     * 비슷한 프로젝트를 유사도 순으로 반환합니다. (색인에 없으면 빈 목록)
+     */
+    public List<ProjectSimilarityIndex.Similar> similar(Integer projectId, int size) {
+        return index.similar(projectId, Math.min(Math.max(size, 0), MAX_SIZE));
+    }
+
+    /**
+     * 전체 재색인 (기동 30초 후 + 1시간마다).
+     * 설명(@Lob)을 한 번에 올리지 않도록 ID 순으로 나눠 읽고, 다 만든 색인으로 교체합니다.
+     * 배치마다 따로 읽으므로(하나의 트랜잭션으로 묶지 않음) 교체 후 다시 색인할 때 최신 커밋을 봅니다.
+     */
+    @Scheduled(initialDelay = 30_000, fixedDelay = 3_600_000)
+    public void rebuild() {
+        synchronized (this) {
+            changedDuringRebuild = new HashSet<>();
+        }
+        Set<Integer> changed;
+        try {
+            ProjectSimilarityIndex next = new ProjectSimilarityIndex();
+            int afterId = 0;
+            List<ProjectRepository.SimilarSource> batch;
+            do {
+                batch = projectRepository.findSimilarSources(afterId, PageRequest.of(0, BATCH_SIZE));
+                for (ProjectRepository.SimilarSource source : batch) {
+                    next.upsert(source.getProjectId(), source.getTitle(), textOf(source));
+                    afterId = source.getProjectId();
+                }
+            } while (batch.size() == BATCH_SIZE);
+
+            synchronized (this) {
+                changed = changedDuringRebuild;
+                index = next;
+            }
+        } finally {
+            synchronized (this) {
+                changedDuringRebuild = null;
+            }
+        }
+
+        // ✅ 재색인 중 이벤트는 이전 색인에만 반영됐으므로 새 색인에 다시 반영
+        changed.forEach(this::reindex);
+        log.info("🔎 유사 프로젝트 색인 완료 - 프로젝트 수: {}, 재반영: {}", index.size(), changed.size());
+    }
+
+    /**
+     * 승인/수정/삭제된 프로젝트만 다시 색인합니다. (모금액 변경은 유사도와 무관)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.ChangeType.FUNDING) {
+            return;
+        }
+        synchronized (this) {
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event.getProjectId());
+            }
+        }
+        reindex(event.getProjectId());
+    }
+
+    private void reindex(Integer projectId) {
+        projectRepository.findSimilarSourceById(projectId).ifPresentOrElse(
+                source -> index.upsert(projectId, source.getTitle(), textOf(source)),
+                () -> index.remove(projectId)
+        );
+    }
+
+    private static String textOf(ProjectRepository.SimilarSource source) {
+        return source.getTitle() + " " + (source.getDescription() == null ? "" : source.getDescription());
+    }
+}
@@ -0,0 +1,193 @@
+package funding.startreum.domain.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비슷한 프로젝트 추천용 MinHash / LSH 색인.
+ * - 제목 + 설명을 글자 3-gram 집합(shingle)으로 만들고, 128개 해시의 최솟값으로 서명을 만듭니다.
+ * - 서명을 4개씩 32개 밴드로 나눠 같은 밴드 값을 가진 프로젝트를 같은 버킷에 넣습니다 (LSH).
+ * - 조회는 자기 버킷들의 후보만 서명으로 비교하므로 전체 프로젝트 수와 무관합니다.
+ */
+public class ProjectSimilarityIndex {
+
+    /**
+     * 비슷한 프로젝트 한 건
+     *
+     * @param similarity 추정 자카드 유사도 (0 ~ 1)
+     */
+    public record Similar(Integer projectId, String title, double similarity) {
+    }
+
+    static final int NUM_HASHES = 128;
+    static final int ROWS_PER_BAND = 4;
+    static final int BANDS = NUM_HASHES / ROWS_PER_BAND;
+    static final int SHINGLE_SIZE = 3;
+
+    private static final int MAX_TEXT_LENGTH = 5_000;
+    private static final int MAX_BUCKET_SIZE = 256; // 흔한 문구로 버킷이 비대해지는 것 방지
+    private static final int MAX_CANDIDATES = 500;
+    private static final long PRIME = (1L << 31) - 1;
+    private static final long[] HASH_A = new long[NUM_HASHES];
+    private static final long[] HASH_B = new long[NUM_HASHES];
+
+    static {
+        Random random = new Random(20250301L); // 서명이 재시작 후에도 같도록 고정 시드
+        for (int i = 0; i < NUM_HASHES; i++) {
+            HASH_A[i] = 1 + random.nextInt((int) PRIME - 1);
+            HASH_B[i] = random.nextInt((int) PRIME);
+        }
+    }
+
+    private record Signed(int projectId, String title, int[] signature) {
+    }
+
+    private final Map<Integer, Signed> byId = new ConcurrentHashMap<>();
+    private final Map<Long, Set<Integer>> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 같은 버킷에 들어간 후보 중 유사도가 높은 순으로 반환합니다.
+     */
+    public List<Similar> similar(int projectId, int limit) {
+        Signed target = byId.get(projectId);
+        if (target == null || limit <= 0) {
+            return List.of();
+        }
+
+        Set<Integer> candidates = new HashSet<>();
+        for (int band = 0; band < BANDS && candidates.size() < MAX_CANDIDATES; band++) {
+            Set<Integer> bucket = buckets.get(bandKey(band, target.signature()));
+            if (bucket != null) {
+                candidates.addAll(bucket);
+            }
+        }
+        candidates.remove(projectId);
+
+        List<Similar> result = new ArrayList<>();
+        for (Integer candidateId : candidates) {
+            Signed candidate = byId.get(candidateId);
+            if (candidate != null) {
+                result.add(new Similar(candidateId, candidate.title(), estimate(target.signature(), candidate.signature())));
+            }
+        }
+        result.sort(Comparator.comparingDouble(Similar::similarity).reversed()
+                .thenComparing(Similar::projectId, Comparator.reverseOrder()));
+        return result.size() > limit ? List.copyOf(result.subList(0, limit)) : result;
+    }
+
+    /**
+     * 프로젝트 서명을 새로 계산해 색인합니다.
+     *
+     * @param text 제목 + 설명
+     */
+    public synchronized void upsert(int projectId, String title, String text) {
+        int[] signature = signature(text);
+        if (signature == null) {
+            remove(projectId);
+            return;
+        }
+
+        Signed previous = byId.put(projectId, new Signed(projectId, title, signature));
+        if (previous != null) {
+            unlink(previous);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            Set<Integer> bucket = buckets.computeIfAbsent(bandKey(band, signature), key -> ConcurrentHashMap.newKeySet());
+            if (bucket.size() < MAX_BUCKET_SIZE) {
+                bucket.add(projectId);
+            }
+        }
+    }
+
+    public synchronized void remove(int projectId) {
+        Signed previous = byId.remove(projectId);
+        if (previous != null) {
+            unlink(previous);
+        }
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    /**
+     * 글자 3-gram 집합의 MinHash 서명 (shingle이 없으면 null)
+     */
+    static int[] signature(String text) {
+        Set<Integer> shingles = shingles(text);
+        if (shingles.isEmpty()) {
+            return null;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long value = shingle & 0xffffffffL;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) ((HASH_A[i] * value + HASH_B[i]) % PRIME);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    static Set<Integer> shingles(String text) {
+        String normalized = normalize(text);
+        Set<Integer> shingles = new HashSet<>();
+        for (int i = 0; i + SHINGLE_SIZE <= normalized.length(); i++) {
+            shingles.add(normalized.substring(i, i + SHINGLE_SIZE).hashCode());
+        }
+        return shingles;
+    }
+
+    static double estimate(int[] a, int[] b) {
+        int same = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) same++;
+        }
+        return (double) same / NUM_HASHES;
+    }
+
+    /**
+     * HTML 태그와 기호를 지우고 소문자 + 공백 하나로 정리
+     */
+    private static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String plain = text.length() > MAX_TEXT_LENGTH ? text.substring(0, MAX_TEXT_LENGTH) : text;
+        return plain.replaceAll("<[^>]*>", " ")
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private void unlink(Signed signed) {
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(band, signed.signature());
+            Set<Integer> bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.remove(signed.projectId());
+                if (bucket.isEmpty()) {
+                    buckets.remove(key);
+                }
+            }
+        }
+    }
+
+    private static long bandKey(int band, int[] signature) {
+        int from = band * ROWS_PER_BAND;
+        int hash = Arrays.hashCode(Arrays.copyOfRange(signature, from, from + ROWS_PER_BAND));
+        return ((long) band << 32) | (hash & 0xffffffffL);
+    }
+}
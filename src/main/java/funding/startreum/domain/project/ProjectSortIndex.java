@@ -0,0 +1,195 @@
+package funding.startreum.domain.project;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 진행중 프로젝트 둘러보기용 정렬 색인 (마감 임박 / 목표 근접 / 트렌딩).
+ * - 정렬 기준마다 스킵 리스트를 유지하여 요청마다 DB 정렬(filesort) 없이 O(log n + 페이지 크기)로 페이지 조회.
+ * - 커서는 마지막 항목의 (정렬 값, 프로젝트 ID)이므로 중간에 순위가 바뀌어도 중복/누락 없이 이어서 조회.
+ * - 트렌딩 점수는 후원마다 더해지는 지수 감쇠 모금 속도(목표 금액 대비, 반감기 24시간).
+ *   모든 점수를 같은 기준 시각으로 환산해 저장하므로, 시간이 흘러도 전체 점수를 다시 계산할 필요가 없음.
+ * - 전체 교체는 새 스킵 리스트를 따로 만든 뒤 한 번에 바꾸므로, 재구성 중에도 조회가 빈/일부 페이지를 보지 않음.
+ */
+public class ProjectSortIndex {
+
+    /**
+     * 정렬 기준
+     */
+    public enum SortOrder {
+        ENDING_SOON,     // 종료일 오름차순
+        CLOSEST_TO_GOAL, // 달성률 내림차순
+        TRENDING;        // 트렌딩 점수 내림차순
+
+        public static SortOrder from(String value) {
+            try {
+                return valueOf(value.trim().toUpperCase().replace('-', '_'));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("잘못된 정렬 기준입니다. 허용되는 값: ENDING_SOON, CLOSEST_TO_GOAL, TRENDING");
+            }
+        }
+    }
+
+    /**
+     * 색인된 프로젝트 한 건의 정렬 값
+     */
+    public record Ranked(int projectId, double endEpochSecond, double fundingRatio, double trendingScore) {
+
+        public static Ranked of(int projectId, LocalDateTime endDate, double fundingRatio, double trendingScore) {
+            return new Ranked(projectId, toEpochSecond(endDate), fundingRatio, trendingScore);
+        }
+
+        double key(SortOrder order) {
+            return switch (order) {
+                case ENDING_SOON -> endEpochSecond;
+                case CLOSEST_TO_GOAL -> fundingRatio;
+                case TRENDING -> trendingScore;
+            };
+        }
+
+        Ranked withTrendingScore(double score) {
+            return new Ranked(projectId, endEpochSecond, fundingRatio, score);
+        }
+    }
+
+    /**
+     * 다음 페이지 조회 위치 (직전 페이지 마지막 항목의 정렬 값과 ID)
+     */
+    public record Position(double key, int projectId) {
+    }
+
+    static final Duration TRENDING_HALF_LIFE = Duration.ofHours(24);
+
+    /**
+     * 색인 상태 (ID별 정렬 값, 정렬 기준별 스킵 리스트, 트렌딩 점수 기준 시각)
+     */
+    private record State(Map<Integer, Ranked> byId, Map<SortOrder, NavigableSet<Ranked>> views,
+                         LocalDateTime trendingReference) {
+
+        static State empty(LocalDateTime trendingReference) {
+            Map<SortOrder, NavigableSet<Ranked>> views = new EnumMap<>(SortOrder.class);
+            for (SortOrder order : SortOrder.values()) {
+                views.put(order, new ConcurrentSkipListSet<>(comparator(order)));
+            }
+            return new State(new ConcurrentHashMap<>(), views, trendingReference);
+        }
+
+        void replace(Ranked previous, Ranked next) {
+            if (previous != null) {
+                views.values().forEach(view -> view.remove(previous));
+            }
+            byId.put(next.projectId(), next);
+            views.values().forEach(view -> view.add(next));
+        }
+    }
+
+    private volatile State state = State.empty(LocalDateTime.now());
+
+    /**
+     * 정렬 기준에 따라 position 다음부터 size개의 프로젝트를 반환합니다.
+     *
+     * @param position 직전 페이지 마지막 위치 (첫 페이지는 null)
+     */
+    public List<Ranked> page(SortOrder order, Position position, int size) {
+        NavigableSet<Ranked> view = state.views().get(order);
+        NavigableSet<Ranked> tail = position == null ? view : view.tailSet(probe(order, position), false);
+
+        List<Ranked> page = new ArrayList<>(size);
+        for (Ranked ranked : tail) {
+            if (page.size() >= size) break;
+            page.add(ranked);
+        }
+        return page;
+    }
+
+    public Position positionOf(SortOrder order, Ranked ranked) {
+        return new Position(ranked.key(order), ranked.projectId());
+    }
+
+    /**
+     * 프로젝트 정보(종료일, 달성률)를 갱신합니다. 트렌딩 점수는 유지합니다.
+     */
+    public synchronized void upsert(int projectId, LocalDateTime endDate, double fundingRatio) {
+        Ranked previous = state.byId().get(projectId);
+        double trendingScore = previous == null ? 0 : previous.trendingScore();
+        state.replace(previous, Ranked.of(projectId, endDate, fundingRatio, trendingScore));
+    }
+
+    /**
+     * 후원(환불은 음수)을 트렌딩 점수에 반영합니다. 색인에 없는 프로젝트는 무시합니다.
+     *
+     * @param ratio 목표 금액 대비 후원 금액
+     */
+    public synchronized void addFunding(int projectId, double ratio, LocalDateTime fundedAt) {
+        State current = state;
+        Ranked previous = current.byId().get(projectId);
+        if (previous == null) {
+            return;
+        }
+        double score = Math.max(0, previous.trendingScore() + ratio * decayWeight(fundedAt, current.trendingReference()));
+        current.replace(previous, previous.withTrendingScore(score));
+    }
+
+    public synchronized void remove(int projectId) {
+        State current = state;
+        Ranked previous = current.byId().remove(projectId);
+        if (previous != null) {
+            current.views().values().forEach(view -> view.remove(previous));
+        }
+    }
+
+    /**
+     * 전체 교체. 트렌딩 점수는 reference 시각 기준으로 환산된 값이어야 합니다.
+     * - 새 상태를 모두 만든 뒤 한 번에 바꾸므로, 그동안 조회는 이전 색인 전체를 봅니다.
+     */
+    public synchronized void replaceAll(Collection<Ranked> entries, LocalDateTime reference) {
+        State next = State.empty(reference);
+        entries.forEach(entry -> next.replace(null, entry));
+        state = next;
+    }
+
+    public int size() {
+        return state.byId().size();
+    }
+
+    /**
+     * at 시각의 후원을 reference 시각 기준 점수로 환산하는 가중치.
+     * 두 프로젝트의 점수 비율은 현재 시각과 무관하므로 순위 비교에는 환산 점수를 그대로 사용합니다.
+     */
+    public static double decayWeight(LocalDateTime at, LocalDateTime reference) {
+        double halfLives = (double) Duration.between(reference, at).toSeconds() / TRENDING_HALF_LIFE.toSeconds();
+        return Math.pow(2, halfLives);
+    }
+
+    private static Ranked probe(SortOrder order, Position position) {
+        double key = position.key();
+        return switch (order) {
+            case ENDING_SOON -> new Ranked(position.projectId(), key, 0, 0);
+            case CLOSEST_TO_GOAL -> new Ranked(position.projectId(), 0, key, 0);
+            case TRENDING -> new Ranked(position.projectId(), 0, 0, key);
+        };
+    }
+
+    private static Comparator<Ranked> comparator(SortOrder order) {
+        Comparator<Ranked> byKey = Comparator.comparingDouble(ranked -> ranked.key(order));
+        if (order != SortOrder.ENDING_SOON) {
+            byKey = byKey.reversed();
+        }
+        // 같은 값이면 최신 프로젝트(ID 큰 순) 먼저
+        return byKey.thenComparing(Ranked::projectId, Comparator.reverseOrder());
+    }
+
+    private static double toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,99 @@
+package funding.startreum.domain.project;
+
+import funding.startreum.domain.funding.repository.FundingRepository;
+import funding.startreum.domain.project.event.ProjectChangedEvent;
+import funding.startreum.domain.project.repository.ProjectRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트 제목 자동완성 서비스.
+ * - 승인된 진행중 프로젝트 제목을 메모리 트라이에 올려 DB 조회 없이 응답.
+ * - 정렬 기준은 최근 7일 후원 합계 / 목표 금액 (펀딩 모멘텀).
+ * - 프로젝트 변경 이벤트로 해당 프로젝트만 갱신하고, 모멘텀 변화(결제/환불, 감쇠)는 주기적 전체 재색인으로 반영.
+ */
+@Service
+public class ProjectSuggestService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectSuggestService.class);
+
+    private static final int TOP_K = 10;
+    private static final int MOMENTUM_DAYS = 7;
+
+    private final ProjectRepository projectRepository;
+    private final FundingRepository fundingRepository;
+    private final ProjectSuggestTrie trie = new ProjectSuggestTrie(TOP_K);
+
+    public ProjectSuggestService(ProjectRepository projectRepository, FundingRepository fundingRepository) {
+        this.projectRepository = projectRepository;
+        this.fundingRepository = fundingRepository;
+    }
+
+    /**
+     * 접두어에 맞는 프로젝트 제목을 모멘텀 순으로 반환합니다.
+     */
+    public List<ProjectSuggestTrie.Suggestion> suggest(String prefix, int size) {
+        return trie.suggest(prefix, Math.min(Math.max(size, 0), TOP_K));
+    }
+
+    /**
+     * 전체 재색인 (기동 시 + 10분마다)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        Map<Integer, BigDecimal> momentum = fundingRepository.sumRecentAmountsByProject(momentumSince()).stream()
+                .collect(Collectors.toMap(FundingRepository.ProjectAmount::getProjectId, FundingRepository.ProjectAmount::getAmount));
+
+        List<ProjectSuggestTrie.Suggestion> suggestions = projectRepository.findSuggestSources().stream()
+                .map(source -> toSuggestion(source, momentum.getOrDefault(source.getProjectId(), BigDecimal.ZERO)))
+                .toList();
+
+        trie.replaceAll(suggestions);
+        log.info("🔎 자동완성 색인 완료 - 프로젝트 수: {}", suggestions.size());
+    }
+
+    /**
+     * 승인/종료/수정/삭제된 프로젝트만 다시 읽어 색인을 갱신합니다.
+     * - 결제/환불(FUNDING)은 모멘텀 점수만 바뀌므로 결제 요청에서 트라이를 고치지 않고 주기적 재색인에 맡깁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getType() == ProjectChangedEvent.ChangeType.FUNDING) {
+            return;
+        }
+        Integer projectId = event.getProjectId();
+        projectRepository.findSuggestSourceById(projectId).ifPresentOrElse(
+                source -> trie.upsert(toSuggestion(source,
+                        fundingRepository.sumRecentAmountByProjectId(projectId, momentumSince()))),
+                () -> trie.remove(projectId)
+        );
+    }
+
+    private static ProjectSuggestTrie.Suggestion toSuggestion(ProjectRepository.SuggestSource source, BigDecimal recentAmount) {
+        BigDecimal goal = source.getFundingGoal();
+        double score = goal == null || goal.signum() <= 0
+                ? recentAmount.doubleValue()
+                : recentAmount.doubleValue() / goal.doubleValue();
+        return new ProjectSuggestTrie.Suggestion(source.getProjectId(), source.getTitle(), score);
+    }
+
+    private static LocalDateTime momentumSince() {
+        return LocalDateTime.now().minusDays(MOMENTUM_DAYS);
+    }
+}
@@ -0,0 +1,348 @@
+package funding.startreum.domain.project;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 승인된 프로젝트 제목의 자동완성을 위한 접두어 트라이.
+ * - 제목의 각 단어 시작 위치부터 키를 만들어, 중간 단어로도 검색 가능.
+ * - 각 노드에 하위 트리 전체의 상위 K개(펀딩 모멘텀 순) 후보를 미리 계산해 두어 조회는 O(접두어 길이).
+ * - 쓰기는 경로 복사(path copying)로 새 루트를 만들어 교체하므로, 조회는 락 없이 수행됩니다.
+ * - 전체 교체는 가변 트라이를 만든 뒤 후위 순회로 노드마다 한 번만 상위 K개를 계산하며, 쓰기 락 밖에서 수행합니다.
+ *   그동안 들어온 개별 갱신은 모아 두었다가 교체할 때 새 트라이에 다시 적용합니다.
+ */
+public class ProjectSuggestTrie {
+
+    /**
+     * 자동완성 후보.
+     *
+     * @param projectId 프로젝트 ID
+     * @param title     화면에 표시할 제목
+     * @param score     펀딩 모멘텀 점수 (클수록 우선)
+     */
+    public record Suggestion(Integer projectId, String title, double score) {
+    }
+
+    private static final int MAX_KEY_LENGTH = 32; // 이보다 긴 접두어는 잘라서 조회 후 필터링
+    private static final Node EMPTY = new Node(new char[0], new Node[0], new Suggestion[0], new Suggestion[0]);
+
+    // 점수 내림차순, 같으면 최신 프로젝트(ID 큰 순) 먼저
+    private static final Comparator<Suggestion> RANK = Comparator.comparingDouble(Suggestion::score).reversed()
+            .thenComparing(Suggestion::projectId, Comparator.reverseOrder());
+
+    private final int topK;
+    private final Map<Integer, Suggestion> indexed = new HashMap<>(); // 쓰기 락(this) 안에서만 접근
+    private final Object rebuildLock = new Object(); // 전체 교체끼리만 직렬화
+    private Map<Integer, Suggestion> changedDuringRebuild; // 전체 교체 중 개별 갱신 (값이 null이면 제거), 쓰기 락 안에서만 접근
+    private volatile Node root = EMPTY;
+
+    public ProjectSuggestTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * 접두어로 시작하는 단어를 제목에 포함한 프로젝트를 점수 순으로 조회합니다.
+     *
+     * @param prefix 검색 접두어
+     * @param limit  최대 개수 (topK 이하)
+     * @return 자동완성 후보 목록
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        String key = normalized.length() > MAX_KEY_LENGTH ? normalized.substring(0, MAX_KEY_LENGTH) : normalized;
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            int idx = Arrays.binarySearch(node.keys, key.charAt(i));
+            node = idx >= 0 ? node.children[idx] : null;
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        List<Suggestion> result = new ArrayList<>(Math.min(limit, node.top.length));
+        for (Suggestion suggestion : node.top) {
+            if (result.size() >= limit) {
+                break;
+            }
+            if (key.length() == normalized.length() || normalize(suggestion.title()).contains(normalized)) {
+                result.add(suggestion);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 프로젝트를 색인하거나, 이미 있으면 제목/점수를 갱신합니다.
+     */
+    public synchronized void upsert(Suggestion suggestion) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(suggestion.projectId(), suggestion);
+        }
+        root = upsert(root, suggestion);
+    }
+
+    /**
+     * 프로젝트를 색인에서 제거합니다.
+     */
+    public synchronized void remove(Integer projectId) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.put(projectId, null);
+        }
+        root = remove(root, projectId);
+    }
+
+    /**
+     * 전체 색인을 새로 만들어 한 번에 교체합니다.
+     * - 만드는 동안 쓰기 락을 잡지 않으므로 개별 갱신(upsert/remove)이 기다리지 않습니다.
+     */
+    public void replaceAll(Collection<Suggestion> suggestions) {
+        synchronized (rebuildLock) {
+            synchronized (this) {
+                changedDuringRebuild = new HashMap<>();
+            }
+
+            Map<Integer, Suggestion> byId = new HashMap<>();
+            Builder builder = new Builder();
+            for (Suggestion suggestion : suggestions) {
+                byId.put(suggestion.projectId(), suggestion);
+            }
+            for (Suggestion suggestion : byId.values()) {
+                for (String key : keysOf(suggestion.title())) {
+                    builder.add(key, suggestion);
+                }
+            }
+            Node built = freeze(builder);
+
+            synchronized (this) {
+                Map<Integer, Suggestion> changes = changedDuringRebuild;
+                changedDuringRebuild = null;
+                indexed.clear();
+                indexed.putAll(byId);
+                for (Map.Entry<Integer, Suggestion> change : changes.entrySet()) {
+                    built = change.getValue() == null
+                            ? remove(built, change.getKey())
+                            : upsert(built, change.getValue());
+                }
+                root = built;
+            }
+        }
+    }
+
+    public synchronized int size() {
+        return indexed.size();
+    }
+
+    private Node upsert(Node node, Suggestion suggestion) {
+        Suggestion previous = indexed.get(suggestion.projectId());
+        if (previous != null) {
+            node = removeKeys(node, previous);
+        }
+        for (String key : keysOf(suggestion.title())) {
+            node = insert(node, key, 0, suggestion);
+        }
+        indexed.put(suggestion.projectId(), suggestion);
+        return node;
+    }
+
+    private Node remove(Node node, Integer projectId) {
+        Suggestion previous = indexed.remove(projectId);
+        return previous == null ? node : removeKeys(node, previous);
+    }
+
+    private Node removeKeys(Node node, Suggestion suggestion) {
+        for (String key : keysOf(suggestion.title())) {
+            node = remove(node, key, 0, suggestion.projectId());
+            if (node == null) {
+                return EMPTY;
+            }
+        }
+        return node;
+    }
+
+    private Node insert(Node node, String key, int depth, Suggestion suggestion) {
+        if (depth == key.length()) {
+            return build(node.keys, node.children, withTerminal(node.terminals, suggestion));
+        }
+
+        char c = key.charAt(depth);
+        int idx = Arrays.binarySearch(node.keys, c);
+        if (idx >= 0) {
+            Node[] children = node.children.clone();
+            children[idx] = insert(node.children[idx], key, depth + 1, suggestion);
+            return build(node.keys, children, node.terminals);
+        }
+
+        int at = -idx - 1;
+        char[] keys = new char[node.keys.length + 1];
+        Node[] children = new Node[node.children.length + 1];
+        System.arraycopy(node.keys, 0, keys, 0, at);
+        System.arraycopy(node.children, 0, children, 0, at);
+        keys[at] = c;
+        children[at] = insert(EMPTY, key, depth + 1, suggestion);
+        System.arraycopy(node.keys, at, keys, at + 1, node.keys.length - at);
+        System.arraycopy(node.children, at, children, at + 1, node.children.length - at);
+        return build(keys, children, node.terminals);
+    }
+
+    /**
+     * @return 갱신된 노드, 비게 되면 null (부모에서 가지치기)
+     */
+    private Node remove(Node node, String key, int depth, Integer projectId) {
+        if (depth == key.length()) {
+            Suggestion[] terminals = withoutTerminal(node.terminals, projectId);
+            if (terminals.length == 0 && node.keys.length == 0) {
+                return null;
+            }
+            return build(node.keys, node.children, terminals);
+        }
+
+        int idx = Arrays.binarySearch(node.keys, key.charAt(depth));
+        if (idx < 0) {
+            return node;
+        }
+
+        Node child = remove(node.children[idx], key, depth + 1, projectId);
+        if (child != null) {
+            Node[] children = node.children.clone();
+            children[idx] = child;
+            return build(node.keys, children, node.terminals);
+        }
+
+        if (node.keys.length == 1 && node.terminals.length == 0) {
+            return null;
+        }
+        char[] keys = new char[node.keys.length - 1];
+        Node[] children = new Node[node.children.length - 1];
+        System.arraycopy(node.keys, 0, keys, 0, idx);
+        System.arraycopy(node.children, 0, children, 0, idx);
+        System.arraycopy(node.keys, idx + 1, keys, idx, node.keys.length - idx - 1);
+        System.arraycopy(node.children, idx + 1, children, idx, node.children.length - idx - 1);
+        return build(keys, children, node.terminals);
+    }
+
+    /**
+     * 가변 트라이를 후위 순회로 불변 노드로 바꿉니다. (노드마다 상위 K개를 한 번만 계산)
+     */
+    private Node freeze(Builder builder) {
+        char[] keys = new char[builder.children.size()];
+        Node[] children = new Node[builder.children.size()];
+        int i = 0;
+        for (Map.Entry<Character, Builder> child : builder.children.entrySet()) {
+            keys[i] = child.getKey();
+            children[i++] = freeze(child.getValue());
+        }
+        return build(keys, children, builder.terminals.values().toArray(new Suggestion[0]));
+    }
+
+    /**
+     * 자기 자신과 자식들의 상위 후보를 합쳐 이 노드의 상위 K개를 계산합니다.
+     * - 크기 K의 힙으로 합치며, 자식의 후보는 이미 정렬되어 있으므로 힙 최하위보다 못하면 그 자식은 더 보지 않습니다.
+     */
+    private Node build(char[] keys, Node[] children, Suggestion[] terminals) {
+        PriorityQueue<Suggestion> heap = new PriorityQueue<>(topK + 1, RANK.reversed()); // 최하위가 맨 앞
+        Set<Integer> inHeap = new HashSet<>();
+        for (Suggestion terminal : terminals) {
+            offer(heap, inHeap, terminal);
+        }
+        for (Node child : children) {
+            for (Suggestion candidate : child.top) {
+                if (!offer(heap, inHeap, candidate)) {
+                    break;
+                }
+            }
+        }
+
+        Suggestion[] top = new Suggestion[heap.size()];
+        for (int i = top.length - 1; i >= 0; i--) {
+            top[i] = heap.poll();
+        }
+        return new Node(keys, children, terminals, top);
+    }
+
+    /**
+     * @return 후보가 힙 최하위보다 못해서 버렸으면 false
+     */
+    private boolean offer(PriorityQueue<Suggestion> heap, Set<Integer> inHeap, Suggestion candidate) {
+        // 한 제목이 여러 키로 색인되므로 같은 프로젝트가 여러 자식에서 올라올 수 있음
+        if (inHeap.contains(candidate.projectId())) {
+            return true;
+        }
+        if (heap.size() >= topK) {
+            if (topK == 0 || RANK.compare(candidate, heap.peek()) >= 0) {
+                return false;
+            }
+            inHeap.remove(heap.poll().projectId());
+        }
+        heap.add(candidate);
+        inHeap.add(candidate.projectId());
+        return true;
+    }
+
+    private static Suggestion[] withTerminal(Suggestion[] terminals, Suggestion suggestion) {
+        Suggestion[] without = withoutTerminal(terminals, suggestion.projectId());
+        Suggestion[] result = Arrays.copyOf(without, without.length + 1);
+        result[without.length] = suggestion;
+        return result;
+    }
+
+    private static Suggestion[] withoutTerminal(Suggestion[] terminals, Integer projectId) {
+        return Arrays.stream(terminals)
+                .filter(s -> !s.projectId().equals(projectId))
+                .toArray(Suggestion[]::new);
+    }
+
+    /**
+     * 제목의 각 단어 시작 위치부터 잘라낸 키 목록 ("펀딩 로봇 키트" → "펀딩 로봇 키트", "로봇 키트", "키트").
+     */
+    static List<String> keysOf(String title) {
+        String normalized = normalize(title);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (i == 0 || normalized.charAt(i - 1) == ' ') {
+                String key = normalized.substring(i);
+                keys.add(key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key);
+            }
+        }
+        return keys;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private record Node(char[] keys, Node[] children, Suggestion[] terminals, Suggestion[] top) {
+    }
+
+    /**
+     * 전체 교체용 가변 트라이 노드
+     */
+    private static final class Builder {
+        private final TreeMap<Character, Builder> children = new TreeMap<>();
+        private final Map<Integer, Suggestion> terminals = new HashMap<>();
+
+        void add(String key, Suggestion suggestion) {
+            Builder node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new Builder());
+            }
+            node.terminals.put(suggestion.projectId(), suggestion);
+        }
+    }
+}
@@ -12,14 +12,24 @@ import org.springframework.web.bind.annotation.PathVariable;
 @Controller
 public class ProjectViewController {
 
+    private final ProjectDetailService projectDetailService;
+
+    public ProjectViewController(ProjectDetailService projectDetailService) {
+        this.projectDetailService = projectDetailService;
+    }
+
     @GetMapping("/projects/search")
     public String showSearchPage() {
         return "projects/search"; // templates/projects/search.html 뷰 반환
 
     }
 
+    /**
+     * 없는 프로젝트면 ProjectNotFoundException(404). 조회 결과는 캐시되어 이어지는 상세 API 호출이 재사용.
+     */
     @GetMapping("/projects/{projectId}")
     public String showProjectDetailPage(@PathVariable Integer projectId) {
+        projectDetailService.getCachedProjectDetail(projectId);
         return "projects/project-detail"; // templates/projects/project-detail.html 뷰 반환
     }
 
@@ -0,0 +1,25 @@
+package funding.startreum.domain.project.event
+
+import java.math.BigDecimal
+
+/**
+ * 프로젝트가 변경되었을 때 발행되는 도메인 이벤트.
+ * - 검색 인덱스, 캐시 등 메모리 구조가 이 이벤트를 받아 해당 프로젝트만 갱신합니다.
+ *
+ * @param projectId 변경된 프로젝트 ID
+ * @param type      변경 종류
+ * @param fundingDelta 모금액 변화량 (FUNDING 이벤트만 사용, 환불이면 음수)
+ */
+data class ProjectChangedEvent(
+    val projectId: Int,
+    val type: ChangeType,
+    val fundingDelta: BigDecimal = BigDecimal.ZERO
+) {
+    enum class ChangeType {
+        APPROVAL, // 승인 상태 변경
+        STATUS,   // 진행 상태 변경
+        CONTENT,  // 제목, 설명 등 내용 수정
+        FUNDING,  // 모금액 변경 (결제, 환불)
+        DELETED   // 삭제
+    }
+}
@@ -0,0 +1,18 @@
+package funding.startreum.domain.project.exception
+
+import funding.startreum.common.util.ApiResponse
+import funding.startreum.domain.project.ProjectDetailController
+import org.springframework.http.HttpStatus
+import org.springframework.http.ResponseEntity
+import org.springframework.web.bind.annotation.ExceptionHandler
+import org.springframework.web.bind.annotation.RestControllerAdvice
+
+@RestControllerAdvice(assignableTypes = [ProjectDetailController::class])
+class ProjectExceptionHandler {
+
+    @ExceptionHandler(ProjectNotFoundException::class)
+    fun handleException(e: ProjectNotFoundException): ResponseEntity<ApiResponse<Void>> {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND)
+            .body(ApiResponse.error(e.message!!))
+    }
+}
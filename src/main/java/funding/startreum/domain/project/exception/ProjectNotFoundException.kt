@@ -0,0 +1,7 @@
+package funding.startreum.domain.project.exception
+
+import org.springframework.http.HttpStatus
+import org.springframework.web.bind.annotation.ResponseStatus
+
+@ResponseStatus(HttpStatus.NOT_FOUND)
+class ProjectNotFoundException(projectId: Int) : IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: $projectId")
@@ -1,12 +1,15 @@
 package funding.startreum.domain.project.repository;
 
 import funding.startreum.domain.project.entity.Project;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Integer> {
@@ -19,4 +22,57 @@ public interface ProjectRepository extends JpaRepository<Project, Integer> {
      */
     @Query("SELECT f.project FROM Transaction t JOIN t.funding f WHERE t.transactionId = :transactionId")
     Project findProjectByTransactionId(@Param("transactionId") Integer transactionId);
+
+    /**
+     * 상세 조회용 - 작성자를 함께 조회 (지연 로딩 추가 쿼리 방지)
+     */
+    @Query("SELECT p FROM Project p JOIN FETCH p.creator WHERE p.projectId = :projectId")
+    Optional<Project> findWithCreatorById(@Param("projectId") Integer projectId);
+
+    /**
+     * 자동완성 색인 대상(승인 + 진행중) 프로젝트의 제목만 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.title AS title, p.fundingGoal AS fundingGoal FROM Project p " +
+            "WHERE p.isApproved = 'APPROVE' AND p.status = 'ONGOING' AND p.isDeleted = false")
+    List<SuggestSource> findSuggestSources();
+
+    /**
+     * 특정 프로젝트가 자동완성 색인 대상이면 제목을 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.title AS title, p.fundingGoal AS fundingGoal FROM Project p " +
+            "WHERE p.projectId = :projectId AND p.isApproved = 'APPROVE' AND p.status = 'ONGOING' AND p.isDeleted = false")
+    Optional<SuggestSource> findSuggestSourceById(@Param("projectId") Integer projectId);
+
+    /**
+     * 유사 프로젝트 색인 대상(승인 + 삭제되지 않음) 프로젝트의 제목과 설명을 ID 순으로 나눠 조회
+     *
+     * @param afterId  이전 묶음의 마지막 프로젝트 ID (처음은 0)
+     * @param pageable 묶음 크기
+     */
+    @Query("SELECT p.projectId AS projectId, p.title AS title, p.description AS description FROM Project p " +
+            "WHERE p.projectId > :afterId AND p.isApproved = 'APPROVE' AND p.isDeleted = false ORDER BY p.projectId")
+    List<SimilarSource> findSimilarSources(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * 특정 프로젝트가 유사 프로젝트 색인 대상이면 제목과 설명을 조회
+     */
+    @Query("SELECT p.projectId AS projectId, p.title AS title, p.description AS description FROM Project p " +
+            "WHERE p.projectId = :projectId AND p.isApproved = 'APPROVE' AND p.isDeleted = false")
+    Optional<SimilarSource> findSimilarSourceById(@Param("projectId") Integer projectId);
+
+    interface SuggestSource {
+        Integer getProjectId();
+
+        String getTitle();
+
+        BigDecimal getFundingGoal();
+    }
+
+    interface SimilarSource {
+        Integer getProjectId();
+
+        String getTitle();
+
+        String getDescription();
+    }
 }
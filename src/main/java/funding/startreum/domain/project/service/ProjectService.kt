@@ -4,10 +4,13 @@ package funding.startreum.domain.project.service
 import funding.startreum.common.util.JwtUtil
 import funding.startreum.domain.project.dto.*
 import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
 import funding.startreum.domain.project.repository.ProjectRepository
 import funding.startreum.domain.reward.entity.Reward
 import funding.startreum.domain.reward.repository.RewardRepository
 import funding.startreum.domain.users.repository.UserRepository
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.http.HttpStatus
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -20,7 +23,8 @@ open class ProjectService(
     private val projectRepository: ProjectRepository,
     private val jwtUtil: JwtUtil,
     private val userRepository: UserRepository,
-    private val rewardRepository: RewardRepository
+    private val rewardRepository: RewardRepository,
+    private val eventPublisher: ApplicationEventPublisher
 ) {
 
     @Transactional(readOnly = true)
@@ -88,6 +92,7 @@ open class ProjectService(
             projectUpdateRequestDto.endDate?.let { this.endDate = it }
             updatedAt = LocalDateTime.now()
         }
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.CONTENT))
 
         return ProjectUpdateResponseDto(
             project.projectId,
@@ -112,6 +117,7 @@ open class ProjectService(
         }
 
         projectRepository.delete(findProject)
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.DELETED))
     }
 
     fun requestApprove(projectId: Int, token: String): ProjectApprovalResponseDto {
@@ -127,6 +133,7 @@ open class ProjectService(
 
         project.isApproved = Project.ApprovalStatus.AWAITING_APPROVAL
         projectRepository.save(project)
+        eventPublisher.publishEvent(ProjectChangedEvent(projectId, ChangeType.APPROVAL))
 
         return ProjectApprovalResponseDto(
             statusCode = 200, // 🔹 status 추가
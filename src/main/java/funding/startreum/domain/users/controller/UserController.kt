@@ -4,11 +4,11 @@ import funding.startreum.common.util.JwtUtil
 import funding.startreum.domain.users.dto.EmailUpdateRequest
 import funding.startreum.domain.users.dto.SignupRequest
 import funding.startreum.domain.users.dto.UserResponse
-import funding.startreum.domain.users.entity.RefreshToken
 import funding.startreum.domain.users.entity.User
-import funding.startreum.domain.users.repository.RefreshTokenRepository
+import funding.startreum.domain.users.exception.PasswordHashingBusyException
 import funding.startreum.domain.users.service.MyFundingService
 import funding.startreum.domain.users.service.MyProjectService
+import funding.startreum.domain.users.service.RefreshTokenStore
 import funding.startreum.domain.users.service.UserService
 import jakarta.validation.Valid
 import org.springframework.http.HttpHeaders
@@ -24,7 +24,7 @@ import java.util.*
 @RequestMapping("/api/users")
  open class UserController(
     private val jwtUtil: JwtUtil,
-    private val refreshTokenRepository: RefreshTokenRepository,
+    private val refreshTokenStore: RefreshTokenStore,
     private val myFundingService: MyFundingService,
     private val myProjectService: MyProjectService,
     private val userService: UserService
@@ -79,20 +79,14 @@ import java.util.*
     @PostMapping("/login")
      fun  loginUser(@RequestBody loginRequest: LoginRequest): ResponseEntity<Any> =
         try {
-            val user = userService.authenticateUser(loginRequest.name, loginRequest.password)
+            val user = userService.authenticate(loginRequest.name, loginRequest.password)
 
-            refreshTokenRepository.deleteByUsername(user.name)
+            refreshTokenStore.revokeAll(user.name)
 
-            val accessToken = jwtUtil.generateAccessToken(user.name, user.email, user.role.name)
+            val accessToken = jwtUtil.generateAccessToken(user.name, user.email, user.role.name, user.userId, user.tokenVersion)
             val refreshToken = jwtUtil.generateRefreshToken(user.name)
 
-            refreshTokenRepository.save(
-                RefreshToken(
-                    token = refreshToken,
-                    username = user.name,
-                    expiryDate = Date(System.currentTimeMillis() + jwtUtil.refreshTokenExpiration)
-                )
-            )
+            refreshTokenStore.issue(user.name, refreshToken, Date(System.currentTimeMillis() + jwtUtil.refreshTokenExpiration))
 
             ResponseEntity.ok(
                 mapOf(
@@ -102,6 +96,8 @@ import java.util.*
                     "role" to user.role.name
                 )
             )
+        } catch (e: PasswordHashingBusyException) {
+            throw e // 503 (UserExceptionHandler)
         } catch (e: Exception) {
             ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(mapOf("error" to (e.message ?: "로그인 실패")))
         }
@@ -120,17 +116,27 @@ import java.util.*
         val name = jwtUtil.getNameFromToken(refreshToken)
             ?: throw ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 Refresh Token입니다.")
 
-        val storedToken = refreshTokenRepository.findByToken(refreshToken)?.orElse(null)
+        val storedToken = refreshTokenStore.find(refreshToken)
             ?: return ResponseEntity.status(HttpStatus.FORBIDDEN)
-                .body(mapOf("error" to "Refresh Token이 존재하지 않습니다. 다시 로그인하세요."))
+                .body(mapOf("error" to "Refresh Token이 존재하지 않거나 만료되었습니다. 다시 로그인하세요."))
 
-        if (storedToken.expiryDate.before(Date())) {
-            refreshTokenRepository.deleteByToken(refreshToken)
-            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(mapOf("error" to "Refresh Token이 만료되었습니다. 다시 로그인하세요."))
+        if (!storedToken.username.equals(name, ignoreCase = true)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(mapOf("error" to "유효하지 않은 Refresh Token"))
         }
 
+        // ✅ 재발급할 때마다 Refresh Token도 교체 (기존 토큰은 한 번만 사용 가능)
         val user = userService.getUserByName(name)
-        return ResponseEntity.ok(mapOf("accessToken" to jwtUtil.generateAccessToken(user.name, user.email, user.role.name)))
+        val newRefreshToken = jwtUtil.generateRefreshToken(user.name)
+        refreshTokenStore.rotate(refreshToken, newRefreshToken, Date(System.currentTimeMillis() + jwtUtil.refreshTokenExpiration))
+            ?: return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .body(mapOf("error" to "이미 사용된 Refresh Token입니다. 다시 로그인하세요."))
+
+        return ResponseEntity.ok(
+            mapOf(
+                "accessToken" to jwtUtil.generateAccessToken(user.name, user.email, user.role.name, user.userId, user.tokenVersion),
+                "refreshToken" to newRefreshToken
+            )
+        )
     }
 
     // ✅ 사용자 프로필 조회 (본인 또는 관리자만 가능)
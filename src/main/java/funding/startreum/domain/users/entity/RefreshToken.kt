@@ -4,15 +4,19 @@ import jakarta.persistence.*
 import java.util.*
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(
+    name = "refresh_tokens",
+    indexes = [Index(name = "idx_refresh_tokens_expiry", columnList = "expiry_date")]
+)
 class RefreshToken(
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     val id: Long? = null,  // ✅ 자동 증가 ID
 
-    @Column(nullable = false, unique = true)
-    var token: String,  // ✅ Refresh Token 값 저장
+    // ✅ Refresh Token의 SHA-256 (hex 64자). 원문은 저장하지 않음 - 기존 token 컬럼을 그대로 사용
+    @Column(name = "token", nullable = false, unique = true, length = 64)
+    var tokenHash: String,
 
     @Column(nullable = false)
     var username: String, // ✅ 어떤 사용자의 토큰인지 저장
@@ -24,6 +28,6 @@ class RefreshToken(
     constructor() : this(null, "", "", Date()) // ✅ 기본 생성자 추가 (JPA 요구사항)
 
     override fun toString(): String {
-        return "RefreshToken(id=$id, token='$token', username='$username', expiryDate=$expiryDate)"
+        return "RefreshToken(id=$id, username='$username', expiryDate=$expiryDate)"
     }
 }
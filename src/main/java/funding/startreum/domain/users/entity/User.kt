@@ -2,9 +2,11 @@ package funding.startreum.domain.users.entity
 
 import funding.startreum.domain.project.entity.Project
 import jakarta.persistence.*
+import org.hibernate.annotations.ColumnDefault
 import org.hibernate.annotations.DynamicInsert
 import org.hibernate.annotations.DynamicUpdate
 import java.time.LocalDateTime
+import java.util.Locale
 
 @Entity
 @Table(name = "users")
@@ -17,6 +19,14 @@ class User {
 
     @Column(nullable = false)
     var name: String = ""
+        set(value) {
+            field = value
+            normalizedName = normalizeName(value)
+        }
+
+    // 조회용 소문자 이름 (유니크 인덱스, 이름을 바꾸면 함께 갱신)
+    @Column(name = "normalized_name", unique = true)
+    var normalizedName: String? = null
 
     @Column(unique = true, nullable = false)
     var email: String = ""
@@ -29,6 +39,11 @@ class User {
     var createdAt: LocalDateTime = LocalDateTime.now()
     var updatedAt: LocalDateTime = LocalDateTime.now()
 
+    // 액세스 토큰 버전 (토큰의 ver 클레임과 다르면 무효, 올리면 기존 토큰 모두 무효화)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    var tokenVersion: Int = 0
+
     @OneToMany(mappedBy = "creator", cascade = [CascadeType.ALL], orphanRemoval = true)
     var projects: MutableList<Project> = mutableListOf()
 
@@ -55,4 +70,12 @@ class User {
     enum class Role {
         BENEFICIARY, SPONSOR, ADMIN
     }
+
+    companion object {
+        /**
+         * 이름 비교 기준 (대소문자 무시, 저장/조회 모두 이 함수로 변환 - DB LOWER와 규칙이 다를 수 있음)
+         */
+        @JvmStatic
+        fun normalizeName(name: String): String = name.lowercase(Locale.ROOT)
+    }
 }
@@ -0,0 +1,24 @@
+package funding.startreum.domain.users.event
+
+/**
+ * 사용자 정보가 변경되었을 때 발행되는 도메인 이벤트.
+ * - 사용자 캐시가 이 이벤트를 받아 이름/이메일 키를 비웁니다.
+ *
+ * @param userId        변경된 사용자 ID
+ * @param name          사용자 이름
+ * @param email         현재 이메일
+ * @param previousEmail 변경 전 이메일 (이메일 변경 이벤트만 사용)
+ * @param type          변경 종류
+ */
+data class UserChangedEvent(
+    val userId: Int,
+    val name: String,
+    val email: String,
+    val previousEmail: String? = null,
+    val type: ChangeType
+) {
+    enum class ChangeType {
+        EMAIL,   // 이메일 변경
+        PASSWORD // 비밀번호 변경
+    }
+}
@@ -0,0 +1,6 @@
+package funding.startreum.domain.users.exception
+
+/**
+ * 비밀번호 해시 작업이 밀려 있어 요청을 받지 않을 때 (503)
+ */
+class PasswordHashingBusyException : RuntimeException("요청이 많아 잠시 후 다시 시도해주세요.")
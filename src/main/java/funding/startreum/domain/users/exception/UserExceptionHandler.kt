@@ -0,0 +1,19 @@
+package funding.startreum.domain.users.exception
+
+import funding.startreum.domain.users.controller.UserController
+import org.springframework.http.HttpHeaders
+import org.springframework.http.HttpStatus
+import org.springframework.http.ResponseEntity
+import org.springframework.web.bind.annotation.ExceptionHandler
+import org.springframework.web.bind.annotation.RestControllerAdvice
+
+@RestControllerAdvice(assignableTypes = [UserController::class])
+class UserExceptionHandler {
+    @ExceptionHandler(PasswordHashingBusyException::class)
+    fun handlePasswordHashingBusyException(e: PasswordHashingBusyException): ResponseEntity<Map<String, String>> {
+        return ResponseEntity
+            .status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(mapOf("error" to (e.message ?: "잠시 후 다시 시도해주세요.")))
+    }
+}
@@ -1,6 +1,7 @@
 package funding.startreum.domain.users.repository
 
 import funding.startreum.domain.users.entity.RefreshToken
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
 import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
@@ -11,9 +12,13 @@ import java.util.*
 
 @Repository
 interface RefreshTokenRepository : JpaRepository<RefreshToken?, Long?> {
-    fun findByToken(token: String?): Optional<RefreshToken?>? // ✅ 토큰으로 찾기
+    fun findByTokenHash(tokenHash: String): RefreshToken? // ✅ 토큰 해시로 찾기 (유니크 인덱스)
 
-    fun deleteByToken(token: String?) // ✅ 토큰으로 삭제
+    // ✅ 토큰 해시로 삭제 (삭제된 행 수 - 0이면 이미 사용/폐기된 토큰)
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.tokenHash = :tokenHash")
+    fun deleteByTokenHash(@Param("tokenHash") tokenHash: String): Int
 
 
     @Modifying
@@ -22,9 +27,13 @@ interface RefreshTokenRepository : JpaRepository<RefreshToken?, Long?> {
     fun deleteByUsername(@Param("username") username: String?)
 
 
-    // ✅ 만료된 Refresh Token 삭제 쿼리
+    // ✅ 만료된 Refresh Token ID (배치 삭제용, 만료 시각 인덱스 사용)
+    @Query("SELECT r.id FROM RefreshToken r WHERE r.expiryDate < :now ORDER BY r.expiryDate")
+    fun findExpiredIds(@Param("now") now: Date, pageable: Pageable): List<Long>
+
+    // ✅ ID 목록으로 삭제 (작은 배치)
     @Modifying
-    @Query("DELETE FROM RefreshToken r WHERE r.expiryDate < :now")
-    fun deleteExpiredTokens(@Param("now") now: Date?): Int
+    @Transactional
+    @Query("DELETE FROM RefreshToken r WHERE r.id IN :ids")
+    fun deleteByIds(@Param("ids") ids: Collection<Long>): Int
 }
-
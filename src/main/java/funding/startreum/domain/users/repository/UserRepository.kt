@@ -1,22 +1,58 @@
 package funding.startreum.domain.users.repository
 
 import funding.startreum.domain.users.entity.User
+import org.springframework.data.domain.Pageable
 import org.springframework.data.jpa.repository.JpaRepository
+import org.springframework.data.jpa.repository.Modifying
 import org.springframework.data.jpa.repository.Query
 import org.springframework.data.repository.query.Param
 import org.springframework.stereotype.Repository
+import org.springframework.transaction.annotation.Transactional
 import java.util.*
+
+// 이름 파라미터를 User.normalizeName으로 변환해 바인딩 (SpEL)
+private const val NORMALIZED_NAME_PARAM = ":#{T(funding.startreum.domain.users.entity.User).normalizeName(#name)}"
+
 @Repository
 interface UserRepository : JpaRepository<User, Int> { // ✅ Users 엔티티로 변경
     fun findByEmail(email: String): Optional<User> // ✅ Nullable 제거
 
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) = LOWER(:name)") // ✅ funding.startreum.domain.users.entity.User → Users 변경
+    // ✅ 소문자 이름 컬럼(유니크 인덱스)으로 비교 - LOWER(u.name)은 인덱스를 못 씀
+    // ✅ 파라미터도 저장할 때와 같은 User.normalizeName으로 변환 (DB LOWER와 대소문자 규칙이 다를 수 있음)
+    @Query("SELECT u FROM User u WHERE u.normalizedName = $NORMALIZED_NAME_PARAM")
     fun findByName(@Param("name") name: String): Optional<User> // ✅ Nullable 제거
 
 
-    // ✅ 추가: ID 중복 확인
-    fun existsByName(name: String): Boolean
+    // ✅ 추가: ID 중복 확인 (대소문자 무시)
+    @Query("SELECT CASE WHEN COUNT(u) > 0 THEN true ELSE false END FROM User u WHERE u.normalizedName = $NORMALIZED_NAME_PARAM")
+    fun existsByName(@Param("name") name: String): Boolean
 
     // ✅ 추가: 이메일 중복 확인
     fun existsByEmail(email: String): Boolean
+
+    // ✅ 중복 확인 필터 재구성용 (엔티티를 읽지 않음)
+    @Query("SELECT u.name FROM User u")
+    fun findAllNames(): List<String>
+
+    @Query("SELECT u.email FROM User u")
+    fun findAllEmails(): List<String>
+
+    /**
+     * 🔹 소문자 이름 컬럼이 비어 있는 기존 행 (afterUserId 다음부터 ID 순)
+     */
+    @Query("SELECT u.userId AS userId, u.name AS name FROM User u WHERE u.normalizedName IS NULL AND u.userId > :afterUserId ORDER BY u.userId")
+    fun findWithoutNormalizedName(@Param("afterUserId") afterUserId: Int, pageable: Pageable): List<NameRow>
+
+    /**
+     * 🔹 한 행의 소문자 이름 채우기 (행마다 따로 커밋하므로 충돌한 행만 실패)
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE User u SET u.normalizedName = :normalizedName WHERE u.userId = :userId AND u.normalizedName IS NULL")
+    fun fillNormalizedName(@Param("userId") userId: Int, @Param("normalizedName") normalizedName: String): Int
+
+    interface NameRow {
+        val userId: Int
+        val name: String
+    }
 }
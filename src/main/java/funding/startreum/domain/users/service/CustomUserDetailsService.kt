@@ -8,23 +8,52 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.stereotype.Service
 
 @Service
-class CustomUserDetailsService(private val userRepository: UserRepository) : UserDetailsService {
+class CustomUserDetailsService(
+    private val userRepository: UserRepository,
+    private val tokenVersionRegistry: TokenVersionRegistry,
+    private val userCache: UserCache
+) : UserDetailsService {
 
     override fun loadUserByUsername(username: String): UserDetails {
-        // 🔍 데이터베이스에서 사용자 조회 시도
-        return userRepository.findByName(username)
-            .map { user ->
-                // ✅ 사용자 찾음
-                val role = "ROLE_${user.role.name}" // Spring Security 권한 적용
+        // 🔍 캐시 → 데이터베이스 순으로 사용자 조회 (변경 시 UserChangedEvent로 비움)
+        return userCache.userDetails(username) {
+            userRepository.findByName(username)
+                .map { user ->
+                    // ✅ 사용자 찾음
+                    val role = "ROLE_${user.role.name}" // Spring Security 권한 적용
 
-                User.withUsername(user.name)
-                    .password(user.password)
-                    .authorities(role)
-                    .build()
-            }
-            .orElseThrow {
-                // ❌ 사용자 정보 조회 실패 (DB에 존재하지 않음)
-                UsernameNotFoundException("사용자를 찾을 수 없습니다: $username")
-            }
+                    User.withUsername(user.name)
+                        .password(user.password)
+                        .authorities(role)
+                        .build()
+                }
+                .orElseThrow {
+                    // ❌ 사용자 정보 조회 실패 (DB에 존재하지 않음)
+                    UsernameNotFoundException("사용자를 찾을 수 없습니다: $username")
+                }
+        }
+    }
+
+    /**
+     * 토큰 버전이 현재 버전으로 기록되어 있는지 확인합니다. (DB 조회 없음)
+     */
+    fun isCurrentTokenVersion(userId: Int, tokenVersion: Int): Boolean =
+        tokenVersionRegistry.isCurrent(userId, tokenVersion)
+
+    /**
+     * 토큰 버전을 DB에서 확인하고, 현재 버전이면 사용자 정보를 반환합니다. (PK 조회 1회)
+     *
+     * @return 사용자가 없거나 토큰 버전이 지났으면 null
+     */
+    fun loadUserIfTokenCurrent(userId: Int, tokenVersion: Int): UserDetails? {
+        val user = userRepository.findById(userId).orElse(null) ?: return null
+        tokenVersionRegistry.remember(user.userId, user.tokenVersion)
+        if (user.tokenVersion != tokenVersion) {
+            return null
+        }
+        return User.withUsername(user.name)
+            .password(user.password)
+            .authorities("ROLE_${user.role.name}")
+            .build()
     }
 }
@@ -0,0 +1,67 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.repository.UserRepository
+import org.slf4j.LoggerFactory
+import org.springframework.beans.factory.SmartInitializingSingleton
+import org.springframework.dao.DataIntegrityViolationException
+import org.springframework.data.domain.PageRequest
+import org.springframework.stereotype.Component
+
+/**
+ * users.normalized_name 백필.
+ * - 컬럼은 ddl-auto로 추가되므로, 컬럼이 생기기 전에 가입한 사용자의 값을 기동 시 한 번 채웁니다.
+ * - 빈 초기화가 끝난 직후, 웹 서버가 요청을 받기 전에 실행하므로 로그인/중복 확인이 비어 있는 컬럼을 보지 않습니다.
+ * - 이미 채워진 행은 건드리지 않으므로 매 기동마다 실행해도 됩니다.
+ * - 행마다 따로 채우므로, 대소문자만 다른 이름이 있어도 충돌한 행만 비어 있고 나머지 사용자는 그대로 로그인할 수 있습니다.
+ *   충돌한 사용자 ID는 로그로 남기며, 이름을 정리한 뒤 재기동하면 채워집니다.
+ */
+@Component
+class NormalizedNameBackfill(
+    private val userRepository: UserRepository
+) : SmartInitializingSingleton {
+    private val logger = LoggerFactory.getLogger(NormalizedNameBackfill::class.java)
+
+    override fun afterSingletonsInstantiated() {
+        val result = backfill()
+        if (result.updated > 0) {
+            logger.info("✅ normalized_name 백필 완료: {}명", result.updated)
+        }
+        if (result.conflicts.isNotEmpty()) {
+            logger.error("❌ normalized_name 백필 실패 - 대소문자만 다른 중복 이름이 있습니다. 사용자 ID: {}", result.conflicts)
+        }
+    }
+
+    /**
+     * 비어 있는 행을 ID 순으로 BATCH_SIZE개씩 읽어 한 행씩 채웁니다.
+     */
+    fun backfill(): Result {
+        var updated = 0
+        val conflicts = mutableListOf<Int>()
+        var afterUserId = 0
+        while (true) {
+            val rows = userRepository.findWithoutNormalizedName(afterUserId, PageRequest.of(0, BATCH_SIZE))
+            rows.forEach { row ->
+                try {
+                    updated += userRepository.fillNormalizedName(row.userId, User.normalizeName(row.name))
+                } catch (e: DataIntegrityViolationException) {
+                    conflicts.add(row.userId)
+                }
+            }
+            if (rows.size < BATCH_SIZE) {
+                return Result(updated, conflicts)
+            }
+            afterUserId = rows.last().userId
+        }
+    }
+
+    /**
+     * @param updated   채운 행 수
+     * @param conflicts 다른 사용자와 소문자 이름이 겹쳐 채우지 못한 사용자 ID
+     */
+    data class Result(val updated: Int, val conflicts: List<Int>)
+
+    companion object {
+        private const val BATCH_SIZE = 500
+    }
+}
@@ -0,0 +1,97 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.domain.users.exception.PasswordHashingBusyException
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import jakarta.annotation.PreDestroy
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.security.crypto.password.PasswordEncoder
+import org.springframework.stereotype.Component
+import java.time.Duration
+import java.util.concurrent.ArrayBlockingQueue
+import java.util.concurrent.Callable
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.RejectedExecutionException
+import java.util.concurrent.ThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 비밀번호 해시(BCrypt) 전용 실행기.
+ * - 해시는 요청 스레드가 아닌 전용 스레드(기본: CPU 수)에서 계산하고, 대기열이 차면 바로 거절(503)합니다.
+ *   로그인이 몰려도 해시를 기다리는 요청 스레드는 스레드 수 + 대기열 크기를 넘지 않으므로, 결제 등 다른 요청이 굶지 않음.
+ * - 마감 시간 안에 끝나지 않으면 기다리지 않고 거절합니다.
+ */
+@Component
+class PasswordHasher(
+    private val passwordEncoder: PasswordEncoder,
+    meterRegistry: MeterRegistry,
+    @Value("\${startreum.password.threads:0}") threads: Int,
+    @Value("\${startreum.password.queue-capacity:64}") queueCapacity: Int,
+    @Value("\${startreum.password.timeout:PT3S}") private val timeout: Duration
+) {
+    private val executor: ThreadPoolExecutor
+    private val rejected = LongAdder()
+
+    init {
+        val poolSize = if (threads > 0) threads else Runtime.getRuntime().availableProcessors()
+        val sequence = AtomicInteger()
+        executor = ThreadPoolExecutor(
+            poolSize, poolSize, 0, TimeUnit.MILLISECONDS, ArrayBlockingQueue(queueCapacity),
+            { task -> Thread(task, "password-hash-${sequence.incrementAndGet()}").apply { isDaemon = true } },
+            ThreadPoolExecutor.AbortPolicy()
+        )
+
+        Gauge.builder("password.hash.queue", executor) { it.queue.size.toDouble() }
+            .register(meterRegistry)
+        FunctionCounter.builder("password.hash.rejected", rejected) { it.sum().toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * @throws PasswordHashingBusyException 대기열이 찼거나 마감 시간을 넘겼을 때
+     */
+    fun encode(rawPassword: String): String = submit { passwordEncoder.encode(rawPassword) }
+
+    /**
+     * @throws PasswordHashingBusyException 대기열이 찼거나 마감 시간을 넘겼을 때
+     */
+    fun matches(rawPassword: String, encodedPassword: String): Boolean =
+        submit { passwordEncoder.matches(rawPassword, encodedPassword) }
+
+    /**
+     * 저장된 해시의 비용(cost)이 현재 설정보다 낮으면 true (로그인 성공 시 다시 해시)
+     */
+    fun needsRehash(encodedPassword: String): Boolean = passwordEncoder.upgradeEncoding(encodedPassword)
+
+    @PreDestroy
+    fun shutdown() {
+        executor.shutdown()
+    }
+
+    private fun <T> submit(task: Callable<T>): T {
+        val future = try {
+            executor.submit(task)
+        } catch (e: RejectedExecutionException) {
+            rejected.increment()
+            throw PasswordHashingBusyException()
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+        } catch (e: TimeoutException) {
+            future.cancel(true)
+            rejected.increment()
+            throw PasswordHashingBusyException()
+        } catch (e: ExecutionException) {
+            throw e.cause ?: e
+        } catch (e: InterruptedException) {
+            Thread.currentThread().interrupt()
+            future.cancel(true)
+            throw PasswordHashingBusyException()
+        }
+    }
+}
@@ -1,17 +1,36 @@
 package funding.startreum.domain.users.service
 
 import funding.startreum.domain.users.repository.RefreshTokenRepository
+import org.springframework.data.domain.PageRequest
 import org.springframework.scheduling.annotation.Scheduled
 import org.springframework.stereotype.Service
 import java.util.*
 
+/**
+ * 만료된 Refresh Token 정리 (안전망).
+ * - 평소 만료는 [RefreshTokenStore]의 타이밍 휠이 처리하고, 여기서는 재시작 전에 발급되어 휠에 없는 토큰만 남음.
+ * - 한 번에 지우지 않고 만료 시각 인덱스로 작은 배치씩 지워, 큰 DELETE로 테이블을 오래 잠그지 않음.
+ */
 @Service
 class RefreshTokenCleanupService(private val refreshTokenRepository: RefreshTokenRepository) {
-    // ✅ 매일 밤 12시(자정)에 실행 (크론 표현식: "0 0 0 * * ?")
-    @Scheduled(cron = "0 0 0 * * ?")
-    fun cleanupExpiredTokens() {
-        // System.out.println("🔹 만료된 Refresh Token 정리 시작...");
-        val deletedCount = refreshTokenRepository.deleteExpiredTokens(Date())
-        //System.out.println("✅ 삭제된 만료 토큰 수: " + deletedCount);
+
+    // ✅ 10분마다 실행, 한 번에 최대 BATCH_SIZE × MAX_BATCHES건
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    fun cleanupExpiredTokens(): Int {
+        val now = Date()
+        var deletedCount = 0
+        repeat(MAX_BATCHES) {
+            val ids = refreshTokenRepository.findExpiredIds(now, PageRequest.of(0, BATCH_SIZE))
+            if (ids.isEmpty()) {
+                return deletedCount
+            }
+            deletedCount += refreshTokenRepository.deleteByIds(ids)
+        }
+        return deletedCount
+    }
+
+    companion object {
+        private const val BATCH_SIZE = 500
+        private const val MAX_BATCHES = 20
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,159 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.common.cache.TimingWheel
+import funding.startreum.domain.users.entity.RefreshToken
+import funding.startreum.domain.users.repository.RefreshTokenRepository
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.nio.charset.StandardCharsets
+import java.security.MessageDigest
+import java.time.Duration
+import java.util.*
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * Refresh Token 저장소.
+ * - DB에는 토큰 원문 대신 SHA-256(hex 64자)만 저장하고, 해시로 조회합니다. (DB가 유출돼도 토큰으로 쓸 수 없음)
+ * - 최근 조회/발급한 토큰은 메모리(LRU, 개수 제한)에서 바로 응답합니다.
+ * - 이 서버가 발급한 토큰의 만료는 타이밍 휠로 추적해 1분마다 만료된 것만 작은 배치로 삭제합니다.
+ *   재시작 전에 발급된 토큰은 [RefreshTokenCleanupService]가 배치로 정리.
+ * - 재발급(rotate) 때 기존 토큰은 DB에서 먼저 지워지고, 지운 요청만 새 토큰을 받으므로 같은 토큰은 한 번만 쓸 수 있음.
+ */
+@Component
+class RefreshTokenStore(
+    private val refreshTokenRepository: RefreshTokenRepository,
+    meterRegistry: MeterRegistry,
+    @Value("\${startreum.refresh-token.cache-max-size:10000}") private val maxCached: Int
+) {
+    /**
+     * 저장된 토큰 정보
+     */
+    data class Entry(val id: Long, val username: String, val expiresAt: Long)
+
+    private val tokens = LinkedHashMap<String, Entry>(16, 0.75f, true) // 해시 → 토큰 (접근 순서)
+    private val tokenByUser = HashMap<String, String>()                // 사용자 → 해시
+    private val expiries = TimingWheel<Long>(EXPIRY_TICK, EXPIRY_SLOTS)
+
+    private val hits = LongAdder()
+    private val misses = LongAdder()
+    private val expired = LongAdder()
+
+    init {
+        FunctionCounter.builder("cache.gets", hits) { it.sum().toDouble() }
+            .tag("cache", NAME).tag("result", "hit").register(meterRegistry)
+        FunctionCounter.builder("cache.gets", misses) { it.sum().toDouble() }
+            .tag("cache", NAME).tag("result", "miss").register(meterRegistry)
+        Gauge.builder("cache.size", this) { it.size().toDouble() }
+            .tag("cache", NAME).register(meterRegistry)
+        FunctionCounter.builder("refresh.token.expired", expired) { it.sum().toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * 새 토큰을 저장합니다.
+     */
+    fun issue(username: String, token: String, expiryDate: Date) {
+        val hash = hash(token)
+        val saved = refreshTokenRepository.save(RefreshToken(tokenHash = hash, username = username, expiryDate = expiryDate))
+        val id = saved?.id ?: return
+        remember(hash, Entry(id, username, expiryDate.time))
+        expiries.schedule(id, expiryDate.time)
+    }
+
+    /**
+     * 유효한(만료되지 않은) 토큰 정보를 반환합니다.
+     */
+    fun find(token: String): Entry? {
+        val hash = hash(token)
+        var entry = synchronized(this) { tokens[hash] }
+        if (entry != null) {
+            hits.increment()
+        } else {
+            misses.increment()
+            val stored = refreshTokenRepository.findByTokenHash(hash) ?: return null
+            entry = Entry(stored.id ?: return null, stored.username, stored.expiryDate.time)
+            remember(hash, entry)
+        }
+
+        if (entry.expiresAt <= System.currentTimeMillis()) {
+            revoke(hash)
+            return null
+        }
+        return entry
+    }
+
+    /**
+     * 기존 토큰을 폐기하고 새 토큰을 저장합니다.
+     *
+     * @return 기존 토큰이 없거나 이미 사용된 경우 null (새 토큰을 저장하지 않음)
+     */
+    fun rotate(oldToken: String, newToken: String, expiryDate: Date): Entry? {
+        val entry = find(oldToken) ?: return null
+        if (!revoke(hash(oldToken))) {
+            return null // 동시에 들어온 다른 요청이 먼저 사용
+        }
+        issue(entry.username, newToken, expiryDate)
+        return entry
+    }
+
+    /**
+     * 사용자의 모든 토큰을 폐기합니다. (로그인 시)
+     */
+    fun revokeAll(username: String) {
+        refreshTokenRepository.deleteByUsername(username)
+        synchronized(this) {
+            tokenByUser.remove(username)?.let { tokens.remove(it) }
+        }
+    }
+
+    /**
+     * 만료된 토큰을 작은 배치로 삭제합니다.
+     */
+    @Scheduled(fixedDelay = 60_000, initialDelay = 60_000)
+    fun deleteExpired() {
+        val ids = expiries.advance()
+        ids.chunked(DELETE_BATCH_SIZE).forEach { refreshTokenRepository.deleteByIds(it) }
+        expired.add(ids.size.toLong())
+        // 캐시에 남은 만료 항목은 조회 시 버려지고, LRU로 밀려남
+    }
+
+    @Synchronized
+    fun size(): Int = tokens.size
+
+    /**
+     * @return DB에서 실제로 지웠으면 true
+     */
+    private fun revoke(hash: String): Boolean {
+        synchronized(this) {
+            tokens.remove(hash)?.let { tokenByUser.remove(it.username, hash) }
+        }
+        return refreshTokenRepository.deleteByTokenHash(hash) > 0
+    }
+
+    @Synchronized
+    private fun remember(hash: String, entry: Entry) {
+        tokenByUser.put(entry.username, hash)?.let { if (it != hash) tokens.remove(it) }
+        tokens[hash] = entry
+        val iterator = tokens.entries.iterator()
+        while (tokens.size > maxCached && iterator.hasNext()) {
+            val eldest = iterator.next()
+            iterator.remove()
+            tokenByUser.remove(eldest.value.username, eldest.key)
+        }
+    }
+
+    companion object {
+        const val NAME = "refreshTokens"
+
+        private val EXPIRY_TICK = Duration.ofMinutes(1)
+        private const val EXPIRY_SLOTS = 1024
+        private const val DELETE_BATCH_SIZE = 100
+
+        private fun hash(token: String): String =
+            HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(token.toByteArray(StandardCharsets.UTF_8)))
+    }
+}
@@ -0,0 +1,35 @@
+package funding.startreum.domain.users.service
+
+import org.springframework.stereotype.Component
+import java.util.concurrent.ConcurrentHashMap
+
+/**
+ * 사용자별 현재 액세스 토큰 버전 (메모리).
+ * - JWT 필터가 토큰의 ver 클레임을 여기 기록된 버전과 비교해, 같으면 DB 조회 없이 인증.
+ * - 기록이 없거나(재시작 직후 등) 다르면 DB에서 확인한 뒤 기록.
+ * - 버전은 토큰 무효화가 필요한 변경(이메일 변경 등) 때 올림. 서버가 여러 대면 다른 서버는
+ *   DB로 확인할 때까지 이전 버전을 기억하므로, 액세스 토큰 만료 시간(30분) 안에서만 늦게 반영될 수 있음.
+ */
+@Component
+class TokenVersionRegistry {
+
+    private val versions = ConcurrentHashMap<Int, Int>()
+
+    fun isCurrent(userId: Int, version: Int): Boolean = versions[userId] == version
+
+    /**
+     * 버전은 올라가기만 하므로 더 큰 값만 기록 (늦게 도착한 이전 조회 결과가 새 버전을 덮지 않게)
+     */
+    fun remember(userId: Int, version: Int) {
+        if (versions.size >= MAX_USERS && !versions.containsKey(userId)) {
+            versions.clear() // 다시 채워질 때까지 DB로 확인할 뿐이므로 통째로 비움
+        }
+        versions.merge(userId, version, ::maxOf)
+    }
+
+    fun size(): Int = versions.size
+
+    companion object {
+        private const val MAX_USERS = 200_000
+    }
+}
@@ -0,0 +1,87 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.common.cache.SingleFlightCache
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.event.UserChangedEvent
+import funding.startreum.domain.users.repository.UserRepository
+import io.micrometer.core.instrument.MeterRegistry
+import org.springframework.security.core.userdetails.UserDetails
+import org.springframework.stereotype.Component
+import org.springframework.transaction.event.TransactionalEventListener
+import java.time.Duration
+
+/**
+ * 사용자 조회 캐시.
+ * - 엔티티는 영속성 컨텍스트 밖에서 공유하면 안 되므로, 이름(소문자로 정규화)/이메일 → 사용자 ID만 캐시하고
+ *   엔티티는 PK로 조회합니다. 같은 요청 안에서는 영속성 컨텍스트(open-in-view)가 같은 행을 다시 읽지 않음.
+ * - 인증용 UserDetails는 불변 객체이므로 그대로 캐시합니다.
+ * - 이메일/비밀번호 변경([UserChangedEvent])이 커밋되면 해당 사용자의 키만 비웁니다.
+ *   다른 서버에서 바뀐 경우에도 PK로 읽은 행이 키와 맞지 않으면 버리고 다시 조회합니다.
+ */
+@Component
+class UserCache(
+    private val userRepository: UserRepository,
+    meterRegistry: MeterRegistry
+) {
+    private val userIds = SingleFlightCache<String, Int>("userIds", ID_CACHE_MAX_SIZE, CACHE_TTL)
+        .bindTo(meterRegistry)
+    private val userDetails = SingleFlightCache<String, UserDetails>("userDetails", DETAILS_CACHE_MAX_SIZE, CACHE_TTL)
+        .bindTo(meterRegistry)
+
+    /**
+     * 이름으로 사용자를 찾습니다. (대소문자 무시)
+     */
+    fun findByName(name: String): User? =
+        find(nameKey(name), { it.name.equals(name, ignoreCase = true) }) {
+            userRepository.findByName(name).orElse(null)
+        }
+
+    /**
+     * 이메일로 사용자를 찾습니다.
+     */
+    fun findByEmail(email: String): User? =
+        find(emailKey(email), { it.email == email }) { userRepository.findByEmail(email).orElse(null) }
+
+    /**
+     * 인증용 사용자 정보를 반환하거나, 없으면 loader로 만들어 저장합니다.
+     */
+    fun userDetails(name: String, loader: () -> UserDetails): UserDetails =
+        userDetails.get(User.normalizeName(name)) { loader() }
+
+    /**
+     * 변경이 커밋된 뒤 해당 사용자의 이름/이메일 키를 비웁니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    fun onUserChanged(event: UserChangedEvent) {
+        userIds.invalidate(nameKey(event.name))
+        userIds.invalidate(emailKey(event.email))
+        event.previousEmail?.let { userIds.invalidate(emailKey(it)) }
+        userDetails.invalidate(User.normalizeName(event.name))
+    }
+
+    private fun find(key: String, matches: (User) -> Boolean, loader: () -> User?): User? {
+        var loaded: User? = null
+        val userId = try {
+            userIds.get(key) { (loader() ?: throw NoSuchElementException(key)).also { loaded = it }.userId }
+        } catch (e: NoSuchElementException) {
+            return null // 없는 사용자는 캐시하지 않음 (곧 가입할 수 있으므로)
+        }
+        loaded?.let { return it }
+
+        val user = userRepository.findById(userId).orElse(null)
+        if (user == null || !matches(user)) {
+            userIds.invalidate(key) // 캐시된 뒤 삭제되었거나 바뀜
+            return loader()
+        }
+        return user
+    }
+
+    companion object {
+        private val CACHE_TTL = Duration.ofMinutes(10)
+        private const val ID_CACHE_MAX_SIZE = 20_000
+        private const val DETAILS_CACHE_MAX_SIZE = 10_000
+
+        private fun nameKey(name: String) = "name:" + User.normalizeName(name)
+        private fun emailKey(email: String) = "email:$email" // DB 조회와 같게 그대로 비교
+    }
+}
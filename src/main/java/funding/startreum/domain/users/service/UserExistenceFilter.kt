@@ -0,0 +1,119 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.common.cache.BloomFilter
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.repository.UserRepository
+import io.micrometer.core.instrument.FunctionCounter
+import io.micrometer.core.instrument.Gauge
+import io.micrometer.core.instrument.MeterRegistry
+import org.slf4j.LoggerFactory
+import org.springframework.boot.context.event.ApplicationReadyEvent
+import org.springframework.context.event.EventListener
+import org.springframework.scheduling.annotation.Scheduled
+import org.springframework.stereotype.Component
+import java.util.Locale
+import java.util.concurrent.atomic.LongAdder
+
+/**
+ * 이름/이메일 중복 확인용 Bloom 필터.
+ * - 가입 화면이 입력할 때마다 부르는 check-name / check-email에서 "확실히 없음"이면 DB를 조회하지 않음.
+ * - 기동 시 전체 이름/이메일로 만들고, 가입/이메일 변경 때 추가. 삭제는 반영하지 않으므로(오탐만 늘어남)
+ *   주기적으로 새로 만들어 오탐률과 크기를 맞춥니다.
+ * - 다시 만드는 동안 추가된 값은 새 필터에도 넣으므로 빠지는 값이 없음. 첫 구성 전에는 항상 DB로 확인.
+ */
+@Component
+class UserExistenceFilter(
+    private val userRepository: UserRepository,
+    meterRegistry: MeterRegistry
+) {
+    private class Filters(val names: BloomFilter, val emails: BloomFilter)
+
+    private val logger = LoggerFactory.getLogger(UserExistenceFilter::class.java)
+
+    @Volatile
+    private var current: Filters? = null
+
+    @Volatile
+    private var building: Filters? = null
+
+    private val skipped = LongAdder()
+
+    init {
+        FunctionCounter.builder("user.exists.skipped", skipped) { it.sum().toDouble() }
+            .description("Bloom 필터로 DB 조회 없이 응답한 중복 확인 수")
+            .register(meterRegistry)
+        Gauge.builder("user.exists.filter.bytes", this) { it.sizeInBytes().toDouble() }
+            .register(meterRegistry)
+    }
+
+    /**
+     * false면 확실히 없는 이름 (DB 조회 불필요)
+     */
+    fun mightContainName(name: String): Boolean =
+        mightContain(normalizeName(name)) { it.names }
+
+    /**
+     * false면 확실히 없는 이메일 (DB 조회 불필요)
+     */
+    fun mightContainEmail(email: String): Boolean =
+        mightContain(normalizeEmail(email)) { it.emails }
+
+    // building을 먼저 읽음: 재구성이 끝나 building이 비었다면 current는 이미 새 필터
+    fun addName(name: String) {
+        val normalized = normalizeName(name)
+        building?.names?.add(normalized)
+        current?.names?.add(normalized)
+    }
+
+    fun addEmail(email: String) {
+        val normalized = normalizeEmail(email)
+        building?.emails?.add(normalized)
+        current?.emails?.add(normalized)
+    }
+
+    /**
+     * 전체 이름/이메일로 필터를 새로 만듭니다. (기동 시 + 6시간마다)
+     */
+    @EventListener(ApplicationReadyEvent::class)
+    @Scheduled(initialDelay = REBUILD_INTERVAL_MS, fixedDelay = REBUILD_INTERVAL_MS)
+    @Synchronized
+    fun rebuild() {
+        try {
+            val expected = maxOf(MIN_CAPACITY, userRepository.count().toInt() * 2) // 다음 재구성까지 가입 여유
+            val next = Filters(BloomFilter(expected, FALSE_POSITIVE_RATE), BloomFilter(expected, FALSE_POSITIVE_RATE))
+            building = next
+
+            userRepository.findAllNames().forEach { next.names.add(normalizeName(it)) }
+            userRepository.findAllEmails().forEach { next.emails.add(normalizeEmail(it)) }
+
+            current = next
+        } catch (e: Exception) {
+            logger.warn("⚠ 중복 확인 필터 재구성 실패 - 이전 필터 유지", e)
+        } finally {
+            building = null
+        }
+    }
+
+    private fun sizeInBytes(): Long =
+        current?.let { it.names.sizeInBytes() + it.emails.sizeInBytes() } ?: 0L
+
+    private inline fun mightContain(value: String, filter: (Filters) -> BloomFilter): Boolean {
+        val filters = current ?: return true
+        if (filter(filters).mightContain(value)) {
+            return true
+        }
+        skipped.increment()
+        return false
+    }
+
+    companion object {
+        private const val REBUILD_INTERVAL_MS = 6 * 60 * 60 * 1000L
+        private const val MIN_CAPACITY = 10_000
+        private const val FALSE_POSITIVE_RATE = 0.01
+
+        private fun normalizeName(name: String) = User.normalizeName(name)
+
+        // DB 비교 규칙(collation)과 상관없이 안전하도록 소문자로 - 대소문자만 다르면 DB로 확인
+        private fun normalizeEmail(email: String) = email.lowercase(Locale.ROOT)
+    }
+}
@@ -3,9 +3,10 @@ package funding.startreum.domain.users.service
 import funding.startreum.domain.users.dto.SignupRequest
 import funding.startreum.domain.users.dto.UserResponse
 import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.event.UserChangedEvent
 import funding.startreum.domain.users.repository.UserRepository
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.security.access.AccessDeniedException
-import org.springframework.security.crypto.password.PasswordEncoder
 import org.springframework.stereotype.Service
 import java.time.LocalDateTime
 
@@ -13,12 +14,12 @@ import java.time.LocalDateTime
 @Service
  class UserService(
     private val userRepository: UserRepository,
-    private val passwordEncoder: PasswordEncoder,
-
+    private val passwordHasher: PasswordHasher,
+    private val tokenVersionRegistry: TokenVersionRegistry,
+    private val userCache: UserCache,
+    private val userExistenceFilter: UserExistenceFilter,
+    private val eventPublisher: ApplicationEventPublisher
 )  {
-    // Refresh Token 저장소 (임시 Map 사용 → DB 또는 Redis로 변경 가능)
-    private val refreshTokenStorage = mutableMapOf<String, String>()
-
     // 허용된 역할 목록
     private val allowedRoles = setOf(User.Role.BENEFICIARY, User.Role.SPONSOR, User.Role.ADMIN)
 
@@ -29,8 +30,8 @@ import java.time.LocalDateTime
         // 입력 값 검증
         validateSignupRequest(signupRequest)
 
-        // 비밀번호 암호화
-        val encryptedPassword = passwordEncoder.encode(signupRequest.password)
+        // 비밀번호 암호화 (전용 실행기, 밀려 있으면 PasswordHashingBusyException)
+        val encryptedPassword = passwordHasher.encode(signupRequest.password)
 
         // 사용자 엔티티 생성 (Nullable 값 방지)
         val user = User(
@@ -45,17 +46,20 @@ import java.time.LocalDateTime
 
         // 데이터베이스에 저장
         userRepository.save(user)
+        userExistenceFilter.addName(user.name)
+        userExistenceFilter.addEmail(user.email)
     }
 
     /**
      * 입력 값 검증
      */
     private fun validateSignupRequest(signupRequest: SignupRequest) {
-        if (isEmailDuplicate(signupRequest.email)) {
+        // 가입은 필터를 거치지 않고 항상 DB로 확인 (다른 인스턴스에서 가입한 사용자는 필터에 없을 수 있음)
+        if (userRepository.existsByEmail(signupRequest.email)) {
             throw IllegalArgumentException("이미 사용 중인 이메일입니다.")
         }
 
-        if (isNameDuplicate(signupRequest.name)) {
+        if (userRepository.existsByName(signupRequest.name)) {
             throw IllegalArgumentException("이미 사용 중인 이름(ID)입니다.")
         }
 
@@ -65,18 +69,24 @@ import java.time.LocalDateTime
     }
 
     /**
-     * 이름(ID) 중복 확인
+     * 이름(ID) 중복 확인 (가입 폼의 중복 확인 API용, 필터로 DB 조회를 줄임)
      */
     fun isNameDuplicate(name: String): Boolean {
+        if (!userExistenceFilter.mightContainName(name)) {
+            return false // 확실히 없음 (DB 조회 생략)
+        }
         val result = userRepository.existsByName(name)
         return result
     }
 
 
     /**
-     * 이메일 중복 확인
+     * 이메일 중복 확인 (가입 폼의 중복 확인 API용, 필터로 DB 조회를 줄임)
      */
     fun isEmailDuplicate(email: String): Boolean {
+        if (!userExistenceFilter.mightContainEmail(email)) {
+            return false // 확실히 없음 (DB 조회 생략)
+        }
         val result = userRepository.existsByEmail(email)
         return result
     }
@@ -85,12 +95,7 @@ import java.time.LocalDateTime
      * 사용자 인증 (name 기반)
      */
     fun authenticateUser(name: String, password: String): UserResponse {
-        val user = userRepository.findByName(name)
-            .orElseThrow { IllegalArgumentException("존재하지 않는 사용자입니다.") }
-
-        if (!passwordEncoder.matches(password, user.password)) {
-            throw IllegalArgumentException("비밀번호가 일치하지 않습니다.")
-        }
+        val user = authenticate(name, password)
 
         return UserResponse(
             name = user.name,
@@ -102,32 +107,35 @@ import java.time.LocalDateTime
     }
 
     /**
-     * Refresh Token 저장 (name 기반)
+     * 사용자 인증 후 엔티티 반환 (토큰 발급에 사용자 ID와 토큰 버전이 필요할 때)
      */
-    fun saveRefreshToken(name: String, refreshToken: String) {
-        refreshTokenStorage[name] = refreshToken
-    }
+    fun authenticate(name: String, password: String): User {
+        val user = userRepository.findByName(name)
+            .orElseThrow { IllegalArgumentException("존재하지 않는 사용자입니다.") }
 
-    /**
-     * 저장된 Refresh Token 조회
-     */
-    fun getRefreshToken(name: String): String? {
-        return refreshTokenStorage[name]
-    }
+        if (!passwordHasher.matches(password, user.password)) {
+            throw IllegalArgumentException("비밀번호가 일치하지 않습니다.")
+        }
 
-    /**
-     * Refresh Token 검증
-     */
-    fun isRefreshTokenValid(name: String, refreshToken: String): Boolean {
-        return refreshTokenStorage[name] == refreshToken
+        // BCrypt 비용을 올렸으면 로그인할 때 새 비용으로 다시 해시
+        if (passwordHasher.needsRehash(user.password)) {
+            user.password = passwordHasher.encode(password)
+            user.updatedAt = LocalDateTime.now()
+            userRepository.save(user)
+            eventPublisher.publishEvent(
+                UserChangedEvent(user.userId, user.name, user.email, type = UserChangedEvent.ChangeType.PASSWORD)
+            )
+        }
+        tokenVersionRegistry.remember(user.userId, user.tokenVersion)
+        return user
     }
 
     /**
      * 사용자 정보 조회 (Refresh 토큰 재발급 시 사용)
      */
     fun getUserByName(name: String): User {
-        return userRepository.findByName(name)
-            .orElseThrow { IllegalArgumentException("해당 이름의 사용자를 찾을 수 없습니다.") }
+        return userCache.findByName(name)
+            ?: throw IllegalArgumentException("해당 이름의 사용자를 찾을 수 없습니다.")
     }
 
     /**
@@ -165,8 +173,15 @@ import java.time.LocalDateTime
             throw IllegalArgumentException("이미 사용 중인 이메일입니다.")
         }
 
+        val previousEmail = user.email
         user.email = newEmail
         user.updatedAt = LocalDateTime.now()
+        user.tokenVersion++ // 이전 이메일이 담긴 액세스 토큰 무효화
         userRepository.save(user)
+        tokenVersionRegistry.remember(user.userId, user.tokenVersion)
+        userExistenceFilter.addEmail(newEmail)
+        eventPublisher.publishEvent(
+            UserChangedEvent(user.userId, user.name, newEmail, previousEmail, UserChangedEvent.ChangeType.EMAIL)
+        )
     }
 }
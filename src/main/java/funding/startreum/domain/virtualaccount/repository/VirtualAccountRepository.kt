@@ -28,4 +28,10 @@ interface VirtualAccountRepository : JpaRepository<VirtualAccount, Int> {
     fun findReceiverAccountByTransactionId(@Param("transactionId") transactionId: Int): Optional<VirtualAccount>
 
     fun findByUser_Name(userName: String): Optional<VirtualAccount>
+
+    /**
+     * 계좌 소유자 이름 (계좌 PK + 사용자 PK 조인 한 번, 엔티티를 읽지 않음)
+     */
+    @Query("SELECT u.name FROM VirtualAccount va JOIN va.user u WHERE va.accountId = :accountId")
+    fun findOwnerNameByAccountId(@Param("accountId") accountId: Int): String?
 }
@@ -1,17 +1,26 @@
 package funding.startreum.domain.virtualaccount.security
 
-import funding.startreum.domain.users.service.UserService
+import funding.startreum.common.cache.SingleFlightCache
 import funding.startreum.domain.virtualaccount.exception.AccountNotFoundException
 import funding.startreum.domain.virtualaccount.repository.VirtualAccountRepository
+import io.micrometer.core.instrument.MeterRegistry
 import org.springframework.security.access.AccessDeniedException
 import org.springframework.security.core.userdetails.UserDetails
 import org.springframework.stereotype.Component
+import java.time.Duration
 
+/**
+ * 계좌 소유자 권한 확인.
+ * - 계좌 소유자는 바뀌지 않으므로 계좌 ID → 소유자 이름을 메모리에 캐시하고, 없을 때만 쿼리 1회로 조회합니다.
+ * - 계좌 엔티티를 읽지 않으므로, 계좌는 이후 서비스에서 한 번만 로딩됩니다.
+ */
 @Component
 class AccountSecurity(
     private val repository: VirtualAccountRepository,
-    private val userService: UserService
+    meterRegistry: MeterRegistry
 ) {
+    private val ownerNames = SingleFlightCache<Int, String>("accountOwners", OWNER_CACHE_MAX_SIZE, OWNER_CACHE_TTL)
+        .bindTo(meterRegistry)
 
     /**
      * 계좌 소유자의 username과 현재 로그인한 사용자의 username을 비교하여 권한을 확인합니다.
@@ -22,18 +31,12 @@ class AccountSecurity(
      * @throws AccessDeniedException 권한이 없을 경우 발생*
      */
     fun isAccountOwner(userDetails: UserDetails, accountId: Int): Boolean {
-        val account = repository.findById(accountId)
-            .orElseThrow {
-                AccountNotFoundException(
-                    accountId
-                )
-            }
-
-        // 계좌에 저장된 funding.startreum.domain.users.entity.User 엔티티에서 userId 추출
-        val accountUserId = userService.getUserByName(account.user.name).userId
-        val loginUserId = userService.getUserByName(userDetails.username).userId
+        val ownerName = ownerNames.get(accountId) {
+            repository.findOwnerNameByAccountId(accountId) ?: throw AccountNotFoundException(accountId)
+        }
 
-        val isOwner = accountUserId == loginUserId
+        // 사용자 이름은 대소문자를 구분하지 않고 조회하므로 비교도 같게
+        val isOwner = ownerName.equals(userDetails.username, ignoreCase = true)
 
         if (!isOwner) {
             throw AccessDeniedException("🔒 해당 계좌에 대한 접근 권한이 없습니다.")
@@ -41,4 +44,9 @@ class AccountSecurity(
 
         return true
     }
-}
\ No newline at end of file
+
+    companion object {
+        private const val OWNER_CACHE_MAX_SIZE = 50_000
+        private val OWNER_CACHE_TTL = Duration.ofHours(1)
+    }
+}
@@ -2,6 +2,8 @@ package funding.startreum.domain.virtualaccount.service
 
 import funding.startreum.domain.funding.service.FundingService
 import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
 import funding.startreum.domain.project.service.ProjectService
 import funding.startreum.domain.transaction.entity.Transaction.TransactionType
 import funding.startreum.domain.transaction.service.TransactionService
@@ -9,6 +11,7 @@ import funding.startreum.domain.virtualaccount.dto.request.AccountPaymentRequest
 import funding.startreum.domain.virtualaccount.dto.response.AccountPaymentResponse
 import funding.startreum.domain.virtualaccount.dto.response.AccountPaymentResponse.Companion.mapToAccountPaymentResponse
 import funding.startreum.domain.virtualaccount.entity.VirtualAccount
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
@@ -18,7 +21,8 @@ class AccountPaymentService(
     private val transactionService: TransactionService,
     private val projectService: ProjectService,
     private val fundingService: FundingService,
-    private val accountQueryService: AccountQueryService
+    private val accountQueryService: AccountQueryService,
+    private val eventPublisher: ApplicationEventPublisher
 ) {
 
     /**
@@ -86,7 +90,7 @@ class AccountPaymentService(
 
         // 2) 프로젝트 모금액 업데이트
         project.currentFunding = project.currentFunding.add(paymentAmount)
-
+        eventPublisher.publishEvent(ProjectChangedEvent(request.projectId, ChangeType.FUNDING, paymentAmount))
 
         // 3) 펀딩 및 거래 내역 생성
         val funding = fundingService.createFunding(project, username, paymentAmount)
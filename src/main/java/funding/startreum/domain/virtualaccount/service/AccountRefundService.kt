@@ -1,11 +1,14 @@
 package funding.startreum.domain.virtualaccount.service
 
 import funding.startreum.domain.funding.service.FundingService
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
 import funding.startreum.domain.project.repository.ProjectRepository
 import funding.startreum.domain.transaction.entity.Transaction.TransactionType
 import funding.startreum.domain.transaction.service.TransactionService
 import funding.startreum.domain.virtualaccount.dto.response.AccountRefundResponse
 import funding.startreum.domain.virtualaccount.dto.response.AccountRefundResponse.Companion.mapToAccountRefundResponse
+import org.springframework.context.ApplicationEventPublisher
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 
@@ -17,6 +20,7 @@ class AccountRefundService(
     private val accountQueryService: AccountQueryService,
     private val fundingService: FundingService,
     private val projectRepository: ProjectRepository,
+    private val eventPublisher: ApplicationEventPublisher,
 ) {
 
     /**
@@ -52,6 +56,7 @@ class AccountRefundService(
         // 5) 프로젝트의 현재 펀딩 금액 차감
         val project = projectRepository.findProjectByTransactionId(transactionId)
         project.currentFunding = project.currentFunding.subtract(refundAmount)
+        project.projectId?.let { eventPublisher.publishEvent(ProjectChangedEvent(it, ChangeType.FUNDING, refundAmount.negate())) }
 
         // 6) 응답 객체 반환
         return mapToAccountRefundResponse(payerAccount, newTransaction, transactionId, refundAmount, beforeMoney)
@@ -1,6 +1,9 @@
 document.addEventListener('DOMContentLoaded', function () {
     let searchForm = document.getElementById('globalSearchForm');
     let searchInput = document.getElementById('globalQuery');
+    let suggestionList = document.getElementById('globalSuggestions');
+    let suggestTimer = null;
+    let lastPrefix = '';
 
     // ✅ 검색 폼이 제출될 때 검색 페이지로 이동
     searchForm.addEventListener('submit', function (event) {
@@ -13,4 +16,33 @@ document.addEventListener('DOMContentLoaded', function () {
             window.location.href = `/projects/search`; // 검색어 없이 전체 목록 조회
         }
     });
+
+    // ✅ 입력할 때마다 검색하지 않고, 입력이 멈추면 자동완성 API만 호출
+    searchInput.addEventListener('input', function () {
+        clearTimeout(suggestTimer);
+        suggestTimer = setTimeout(function () {
+            let prefix = searchInput.value.trim();
+            if (prefix === lastPrefix) {
+                return;
+            }
+            lastPrefix = prefix;
+
+            if (!prefix) {
+                suggestionList.innerHTML = '';
+                return;
+            }
+
+            fetch(`/api/projects/suggest?prefix=${encodeURIComponent(prefix)}&size=5`)
+                .then(response => response.json())
+                .then(result => {
+                    suggestionList.innerHTML = '';
+                    (result.data || []).forEach(suggestion => {
+                        let option = document.createElement('option');
+                        option.value = suggestion.title;
+                        suggestionList.appendChild(option);
+                    });
+                })
+                .catch(() => suggestionList.innerHTML = '');
+        }, 150);
+    });
 });
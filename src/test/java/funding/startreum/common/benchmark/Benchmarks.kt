@@ -0,0 +1,59 @@
+package funding.startreum.common.benchmark
+
+import org.junit.jupiter.api.Tag
+import org.junit.jupiter.api.TestReporter
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable
+
+/**
+ * 벤치마크 테스트 표시. 일반 테스트 실행에서는 건너뛰고 `BENCHMARK=true`일 때만 실행.
+ * - 실행: `BENCHMARK=true ./gradlew test --tests '*Benchmark*'`
+ */
+@Target(AnnotationTarget.CLASS)
+@Retention(AnnotationRetention.RUNTIME)
+@Tag("benchmark")
+@EnabledIfEnvironmentVariable(named = "BENCHMARK", matches = "true")
+annotation class Benchmark
+
+/**
+ * 벤치마크 측정/보고 도구.
+ * - 워밍업 라운드 뒤 여러 라운드를 측정해 중앙값을 씀 (한 번 잰 값은 GC/JIT에 따라 크게 흔들림).
+ * - 결과는 표준 출력 대신 TestReporter로 남기므로 테스트 리포트에서 확인.
+ * - 측정값끼리 비교하는 단언은 하지 않음. 머신과 부하에 따라 달라지므로 리포트를 보고 판단.
+ */
+object Benchmarks {
+
+    private const val WARMUP_ROUNDS = 1
+    private const val ROUNDS = 5
+
+    /**
+     * 워밍업을 포함한 전체 라운드 수 (라운드마다 다른 입력을 미리 만들어 둘 때 사용)
+     */
+    const val TOTAL_ROUNDS = WARMUP_ROUNDS + ROUNDS
+
+    /**
+     * 한 라운드에 operations건을 처리하는 round를 반복 실행하고, 라운드 시간 중앙값으로 계산한 처리량
+     *
+     * @param round 라운드 번호(워밍업 포함 0부터)를 받아 operations건을 처리
+     */
+    fun measure(operations: Int, round: (Int) -> Unit): Result {
+        repeat(WARMUP_ROUNDS) { round(it) }
+        val samples = LongArray(ROUNDS) { i ->
+            val start = System.nanoTime()
+            round(WARMUP_ROUNDS + i)
+            System.nanoTime() - start
+        }
+        samples.sort()
+        return Result(samples[ROUNDS / 2].toDouble() / operations)
+    }
+
+    /**
+     * @param nanosPerOperation 한 건 처리 시간 (라운드 중앙값 기준)
+     */
+    data class Result(val nanosPerOperation: Double) {
+        val operationsPerSecond: Double get() = 1e9 / nanosPerOperation
+    }
+
+    fun TestReporter.report(name: String, result: Result) {
+        publishEntry(name, "%.0f ops/s (%.1f µs/op)".format(result.operationsPerSecond, result.nanosPerOperation / 1000))
+    }
+}
@@ -0,0 +1,134 @@
+package funding.startreum.common.cache
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.ByteBuffer
+import java.nio.file.Files
+import java.nio.file.Path
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+internal class DiskLruCacheTest {
+
+    @TempDir
+    lateinit var dir: Path
+
+    private fun bytes(size: Int) = DiskLruCache.Writer { Files.write(it, ByteArray(size)) }
+
+    private fun DiskLruCache.load(key: String, writer: DiskLruCache.Writer) = open(key, writer).close()
+
+    @Test
+    @DisplayName("이미 있는 파일은 다시 만들지 않음")
+    fun reusesExistingFile() {
+        val cache = DiskLruCache(dir, 1_000)
+        val writes = AtomicInteger()
+
+        cache.open("a.jpg") { writes.incrementAndGet(); Files.write(it, ByteArray(10)) }.close()
+        val second = cache.open("a.jpg") { writes.incrementAndGet(); Files.write(it, ByteArray(10)) }
+
+        assertThat(writes.get()).isEqualTo(1)
+        assertThat(second.use { it.size() }).isEqualTo(10)
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 쓴 파일부터 삭제")
+    fun evictsLeastRecentlyUsed() {
+        val cache = DiskLruCache(dir, 250)
+        cache.load("a.jpg", bytes(100))
+        cache.load("b.jpg", bytes(100))
+        cache.load("a.jpg", bytes(100)) // a를 최근 사용으로
+
+        cache.load("c.jpg", bytes(100))
+
+        assertThat(Files.exists(dir.resolve("a.jpg"))).isTrue()
+        assertThat(Files.exists(dir.resolve("b.jpg"))).isFalse()
+        assertThat(Files.exists(dir.resolve("c.jpg"))).isTrue()
+        assertThat(cache.totalBytes()).isEqualTo(200)
+    }
+
+    @Test
+    @DisplayName("읽는 중에 파일이 밀려나도 열린 채널로 끝까지 읽음")
+    fun openChannelSurvivesEviction() {
+        val cache = DiskLruCache(dir, 150)
+        val channel = cache.open("a.jpg") { Files.write(it, ByteArray(100) { 7 }) }
+
+        cache.load("b.jpg", bytes(100)) // a가 밀려나 삭제됨
+
+        assertThat(Files.exists(dir.resolve("a.jpg"))).isFalse()
+        channel.use {
+            val buffer = ByteBuffer.allocate(200)
+            assertThat(it.read(buffer, 0)).isEqualTo(100)
+            assertThat(buffer.get(99)).isEqualTo(7.toByte())
+        }
+    }
+
+    @Test
+    @DisplayName("캐시 밖에서 지워진 파일은 다시 만듦")
+    fun recreatesFileDeletedOutsideCache() {
+        val cache = DiskLruCache(dir, 1_000)
+        val writes = AtomicInteger()
+        cache.load("a.jpg") { writes.incrementAndGet(); Files.write(it, ByteArray(10)) }
+        Files.delete(dir.resolve("a.jpg"))
+
+        cache.load("a.jpg") { writes.incrementAndGet(); Files.write(it, ByteArray(10)) }
+
+        assertThat(writes.get()).isEqualTo(2)
+        assertThat(cache.totalBytes()).isEqualTo(10)
+    }
+
+    @Test
+    @DisplayName("재시작하면 기존 파일을 다시 등록하고 남은 임시 파일은 삭제")
+    fun reloadsExistingFiles() {
+        DiskLruCache(dir, 1_000).load("a.jpg", bytes(100))
+        Files.write(dir.resolve("b.jpg.123.tmp"), ByteArray(5))
+
+        val reopened = DiskLruCache(dir, 1_000)
+
+        assertThat(reopened.size()).isEqualTo(1)
+        assertThat(reopened.totalBytes()).isEqualTo(100)
+        assertThat(Files.exists(dir.resolve("b.jpg.123.tmp"))).isFalse()
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 요청하면 한 번만 만듦")
+    fun writesOnceForConcurrentRequests() {
+        val cache = DiskLruCache(dir, 1_000)
+        val writes = AtomicInteger()
+        val start = CountDownLatch(1)
+        val executor = Executors.newFixedThreadPool(8)
+
+        repeat(8) {
+            executor.submit {
+                start.await()
+                cache.open("a.jpg") {
+                    writes.incrementAndGet()
+                    Thread.sleep(50)
+                    Files.write(it, ByteArray(10))
+                }.close()
+            }
+        }
+        start.countDown()
+        executor.shutdown()
+        executor.awaitTermination(5, TimeUnit.SECONDS)
+
+        assertThat(writes.get()).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("만들기에 실패하면 파일을 남기지 않고 예외 전달")
+    fun failedWriteLeavesNothing() {
+        val cache = DiskLruCache(dir, 1_000)
+
+        assertThatThrownBy { cache.open("a.jpg") { Files.write(it, ByteArray(3)); throw IOException("깨진 이미지") } }
+            .isInstanceOf(UncheckedIOException::class.java)
+        assertThat(Files.list(dir).use { it.count() }).isZero()
+        assertThat(cache.size()).isZero()
+    }
+}
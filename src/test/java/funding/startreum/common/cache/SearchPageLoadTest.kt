@@ -0,0 +1,76 @@
+package funding.startreum.common.cache
+
+import funding.startreum.common.benchmark.Benchmark
+import funding.startreum.common.benchmark.Benchmarks
+import funding.startreum.common.benchmark.Benchmarks.report
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestReporter
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+/**
+ * 검색 페이지(`/projects/search`) 부하 테스트 - 템플릿/프래그먼트 캐시 적용 전후 비교.
+ * - 실행: `BENCHMARK=true ./gradlew test --tests '*SearchPageLoadTest'`
+ * - 메인 페이지(`/`)는 컨트롤러가 렌더링한 HTML 전체를 캐시하므로 설정과 무관하게 같은 문자열을 반환함.
+ *   그래서 요청마다 렌더링하는 검색 페이지로 측정.
+ * - 캐시 설정은 프로퍼티로만 바꿀 수 있으므로, 설정이 다른 두 컨텍스트에서 각각 측정해 리포트로 비교.
+ */
+@Benchmark
+class SearchPageLoadTest {
+
+    @Nested
+    @SpringBootTest(properties = ["spring.thymeleaf.cache=false", "startreum.fragment-cache.enabled=false"])
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    inner class Before {
+
+        @Autowired
+        lateinit var mockMvc: MockMvc
+
+        @Test
+        @DisplayName("캐시 없이 검색 페이지 처리량 측정")
+        fun searchPageThroughput(reporter: TestReporter) {
+            reporter.report("GET /projects/search (캐시 없음)", measure(mockMvc))
+        }
+    }
+
+    @Nested
+    @SpringBootTest(properties = ["spring.thymeleaf.cache=true", "startreum.fragment-cache.enabled=true"])
+    @AutoConfigureMockMvc
+    @ActiveProfiles("test")
+    inner class After {
+
+        @Autowired
+        lateinit var mockMvc: MockMvc
+
+        @Test
+        @DisplayName("템플릿 + 프래그먼트 캐시를 켜고 검색 페이지 처리량 측정")
+        fun searchPageThroughput(reporter: TestReporter) {
+            reporter.report("GET /projects/search (템플릿 + 프래그먼트 캐시)", measure(mockMvc))
+        }
+    }
+
+    companion object {
+        private const val THREADS = 8
+        private const val REQUESTS = 1_000
+
+        /**
+         * 라운드마다 8개 스레드로 REQUESTS건을 보내 처리 시간을 측정
+         */
+        private fun measure(mockMvc: MockMvc): Benchmarks.Result = Benchmarks.measure(REQUESTS) {
+            val executor = Executors.newFixedThreadPool(THREADS)
+            repeat(REQUESTS) { executor.submit { mockMvc.perform(get("/projects/search")).andExpect(status().isOk) } }
+            executor.shutdown()
+            executor.awaitTermination(2, TimeUnit.MINUTES)
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package funding.startreum.common.cache
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.catchThrowable
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicInteger
+
+internal class SingleFlightCacheTest {
+
+    @Test
+    @DisplayName("동시에 같은 키를 요청하면 로더는 한 번만 실행")
+    fun loadsOnceForConcurrentRequests() {
+        val cache = SingleFlightCache<String, Int>("test", 10, Duration.ofMinutes(1))
+        val loads = AtomicInteger()
+        val release = CountDownLatch(1)
+        val executor = Executors.newFixedThreadPool(8)
+
+        val futures = (1..8).map {
+            executor.submit<Int> {
+                cache.get("key") {
+                    loads.incrementAndGet()
+                    release.await(5, TimeUnit.SECONDS)
+                    42
+                }
+            }
+        }
+        Thread.sleep(100)
+        release.countDown()
+
+        assertThat(futures.map { it.get(5, TimeUnit.SECONDS) }).containsOnly(42)
+        assertThat(loads.get()).isEqualTo(1)
+        assertThat(cache.hitRatio()).isEqualTo(7.0 / 8)
+        executor.shutdown()
+    }
+
+    @Test
+    @DisplayName("로딩 실패는 캐시하지 않음")
+    fun doesNotCacheFailures() {
+        val cache = SingleFlightCache<String, Int>("test", 10, Duration.ofMinutes(1))
+
+        val thrown = catchThrowable { cache.get("key") { throw IllegalStateException("db down") } }
+
+        assertThat(thrown).isInstanceOf(IllegalStateException::class.java)
+        assertThat(cache.get("key") { 1 }).isEqualTo(1)
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 오래된 항목부터 제거하고, 무효화 후에는 다시 로딩")
+    fun evictsAndInvalidates() {
+        val cache = SingleFlightCache<Int, Int>("test", 2, Duration.ofMinutes(1))
+        cache.get(1) { 1 }
+        cache.get(2) { 2 }
+        cache.get(3) { 3 }
+
+        assertThat(cache.size()).isEqualTo(2)
+        assertThat(cache.get(1) { 100 }).isEqualTo(100)
+
+        cache.invalidateAll()
+        assertThat(cache.get(3) { 300 }).isEqualTo(300)
+    }
+
+    @Test
+    @DisplayName("getIfPresent는 로딩하지 않고, 저장된 값만 반환")
+    fun getIfPresentDoesNotLoad() {
+        val cache = SingleFlightCache<String, Int>("test", 10, Duration.ofMinutes(1))
+
+        assertThat(cache.getIfPresent("key")).isNull()
+        cache.get("key") { 7 }
+        assertThat(cache.getIfPresent("key")).isEqualTo(7)
+    }
+}
@@ -0,0 +1,59 @@
+package funding.startreum.common.config
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
+import org.springframework.boot.test.context.SpringBootTest
+import org.springframework.test.context.ActiveProfiles
+import org.springframework.test.web.servlet.MockMvc
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.header
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers.status
+import org.springframework.web.servlet.resource.ResourceUrlProvider
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class StaticResourceConfigTest {
+
+    @Autowired
+    lateinit var mockMvc: MockMvc
+
+    @Autowired
+    lateinit var resourceUrlProvider: ResourceUrlProvider
+
+    @Test
+    @DisplayName("정적 파일 URL에 내용 해시가 붙고, 해시 URL은 1년 immutable 캐시")
+    fun versionedUrlIsImmutable() {
+        val url = resourceUrlProvider.getForLookupPath("/css/main.css")
+
+        assertThat(url).matches("/css/main-[0-9a-f]{32}\\.css")
+        mockMvc.perform(get(url!!))
+            .andExpect(status().isOk)
+            .andExpect(header().string("Cache-Control", "max-age=31536000, public, immutable"))
+    }
+
+    @Test
+    @DisplayName("해시 없는 URL은 immutable 없이 no-cache로 매번 재검증")
+    fun plainUrlIsRevalidated() {
+        mockMvc.perform(get("/css/main.css"))
+            .andExpect(status().isOk)
+            .andExpect(header().string("Cache-Control", "no-cache"))
+        mockMvc.perform(get("/js/login.js"))
+            .andExpect(status().isOk)
+            .andExpect(header().string("Cache-Control", "no-cache"))
+    }
+
+    @Test
+    @DisplayName("템플릿의 정적 파일 링크가 해시 URL로 렌더링됨")
+    fun templatesReferenceVersionedUrls() {
+        val html = mockMvc.perform(get("/api/users/login"))
+            .andExpect(status().isOk)
+            .andReturn().response.contentAsString
+
+        assertThat(html).containsPattern("/css/login-[0-9a-f]{32}\\.css")
+        assertThat(html).containsPattern("/js/login-[0-9a-f]{32}\\.js")
+    }
+}
@@ -0,0 +1,65 @@
+package funding.startreum.common.ratelimit
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+internal class WriteGuardTest {
+
+    private var now = 0L
+    private val clock = { now }
+
+    @Test
+    @DisplayName("토큰을 다 쓰면 거절하고, 시간이 지나면 다시 허용")
+    fun tokenBucketRefills() {
+        val limiter = TokenBucketLimiter(capacity = 3.0, refillPerSecond = 0.1, maxKeys = 100, clock = clock)
+
+        repeat(3) { assertThat(limiter.tryAcquire("user")).isTrue() }
+        assertThat(limiter.tryAcquire("user")).isFalse()
+        assertThat(limiter.tryAcquire("other")).isTrue()
+
+        now += TimeUnit.SECONDS.toNanos(10)
+        assertThat(limiter.tryAcquire("user")).isTrue()
+        assertThat(limiter.tryAcquire("user")).isFalse()
+    }
+
+    @Test
+    @DisplayName("다시 가득 찬 버킷은 정리되고, 키 수는 상한을 넘지 않음")
+    fun limiterIsBounded() {
+        val limiter = TokenBucketLimiter(capacity = 2.0, refillPerSecond = 1.0, maxKeys = 10, clock = clock)
+
+        repeat(50) { limiter.tryAcquire("user-$it") }
+        assertThat(limiter.size()).isLessThanOrEqualTo(10)
+
+        now += TimeUnit.SECONDS.toNanos(5)
+        limiter.purge()
+        assertThat(limiter.size()).isZero()
+    }
+
+    @Test
+    @DisplayName("글자 몇 개만 다른 글은 지문 거리가 가깝고, 다른 글은 멂")
+    fun simHashDistance() {
+        val original = SimHash.fingerprint("이 프로젝트 정말 좋아요! 지금 바로 후원하세요. 링크: example.com/abc")
+        val nearCopy = SimHash.fingerprint("이 프로젝트 정말 좋아요!! 지금 바로 후원하세요. 링크: example.com/abd")
+        val different = SimHash.fingerprint("배송 일정이 궁금합니다. 리워드는 언제쯤 받을 수 있을까요?")
+
+        assertThat(SimHash.distance(original, nearCopy)).isLessThanOrEqualTo(3)
+        assertThat(SimHash.distance(original, different)).isGreaterThan(10)
+    }
+
+    @Test
+    @DisplayName("같은 대상에 거의 같은 글은 거절하고, 기간이 지나면 허용")
+    fun rejectsNearDuplicates() {
+        val filter = RecentContentFilter(Duration.ofMinutes(10), perKey = 4, maxDistance = 3, maxKeys = 100, clock = clock)
+
+        assertThat(filter.tryRecord("user|comment:1", "지금 바로 후원하세요! 최고의 프로젝트")).isTrue()
+        assertThat(filter.tryRecord("user|comment:1", "지금 바로 후원하세요!! 최고의 프로젝트")).isFalse()
+        assertThat(filter.tryRecord("user|comment:2", "지금 바로 후원하세요! 최고의 프로젝트")).isTrue()
+        assertThat(filter.tryRecord("user|comment:1", "배송은 언제 시작되나요?")).isTrue()
+
+        now += Duration.ofMinutes(11).toNanos()
+        assertThat(filter.tryRecord("user|comment:1", "지금 바로 후원하세요! 최고의 프로젝트")).isTrue()
+    }
+}
@@ -0,0 +1,134 @@
+package funding.startreum.common.util
+
+import JwtAuthenticationFilter
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.repository.UserRepository
+import funding.startreum.domain.users.service.CustomUserDetailsService
+import funding.startreum.domain.users.service.TokenVersionRegistry
+import funding.startreum.domain.users.service.UserCache
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.mockito.Mockito.mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.verifyNoInteractions
+import org.mockito.Mockito.`when`
+import org.springframework.mock.web.MockFilterChain
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.core.context.SecurityContextHolder
+import java.time.Duration
+import java.time.LocalDateTime
+import java.util.Optional
+
+internal class JwtAuthenticationFilterTest {
+
+    private val jwtUtil = JwtUtil(SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5))
+    private val registry = TokenVersionRegistry()
+    private lateinit var userRepository: UserRepository
+    private lateinit var filter: JwtAuthenticationFilter
+
+    private val user = User("Alice", "alice@test.com", "encoded", User.Role.SPONSOR, LocalDateTime.now(), LocalDateTime.now())
+        .apply { userId = 7 }
+
+    @BeforeEach
+    fun setUp() {
+        userRepository = mock(UserRepository::class.java)
+        filter = JwtAuthenticationFilter(jwtUtil, CustomUserDetailsService(userRepository, registry, UserCache(userRepository, SimpleMeterRegistry())))
+    }
+
+    @AfterEach
+    fun tearDown() {
+        SecurityContextHolder.clearContext()
+    }
+
+    @Test
+    @DisplayName("토큰 버전이 메모리 기록과 같으면 DB 조회 없이 인증")
+    fun authenticatesFromClaims() {
+        registry.remember(7, 0)
+
+        doFilter(jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR", 7, 0))
+
+        val authentication = SecurityContextHolder.getContext().authentication
+        assertThat(authentication.name).isEqualTo("Alice")
+        assertThat(authentication.authorities.map { it.authority }).containsExactly("ROLE_SPONSOR")
+        verifyNoInteractions(userRepository)
+    }
+
+    @Test
+    @DisplayName("버전 기록이 없으면 PK 조회로 확인하고 기록, 다음 요청부터는 DB 조회 없음")
+    fun verifiesVersionOnceFromDatabase() {
+        `when`(userRepository.findById(7)).thenReturn(Optional.of(user))
+        val token = jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR", 7, 0)
+
+        doFilter(token)
+        assertThat(SecurityContextHolder.getContext().authentication).isNotNull
+        SecurityContextHolder.clearContext()
+
+        doFilter(token)
+        assertThat(SecurityContextHolder.getContext().authentication).isNotNull
+        verify(userRepository).findById(7)
+        verify(userRepository, never()).findByName("alice")
+    }
+
+    @Test
+    @DisplayName("토큰 버전이 지나면 인증하지 않음")
+    fun rejectsStaleVersion() {
+        user.tokenVersion = 1
+        `when`(userRepository.findById(7)).thenReturn(Optional.of(user))
+
+        doFilter(jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR", 7, 0))
+
+        assertThat(SecurityContextHolder.getContext().authentication).isNull()
+        assertThat(registry.isCurrent(7, 1)).isTrue()
+    }
+
+    @Test
+    @DisplayName("uid/ver 클레임이 없는 이전 토큰은 이름으로 사용자를 조회")
+    fun legacyTokenUsesDatabase() {
+        `when`(userRepository.findByName("alice")).thenReturn(Optional.of(user))
+
+        doFilter(jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR"))
+
+        assertThat(SecurityContextHolder.getContext().authentication.name).isEqualTo("Alice")
+        verify(userRepository).findByName("alice")
+    }
+
+    @Test
+    @DisplayName("서명이 틀린 토큰은 인증하지 않음")
+    fun rejectsTamperedToken() {
+        registry.remember(7, 0)
+        val token = jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR", 7, 0)
+
+        val signatureStart = token.lastIndexOf('.') + 1
+        val replaced = if (token[signatureStart] == 'A') 'B' else 'A'
+        doFilter(token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1))
+
+        assertThat(SecurityContextHolder.getContext().authentication).isNull()
+        verifyNoInteractions(userRepository)
+    }
+
+    @Test
+    @DisplayName("검증한 클레임을 요청에 붙여 같은 요청에서 다시 파싱하지 않음")
+    fun attachesClaimsToRequest() {
+        registry.remember(7, 0)
+        val token = jwtUtil.generateAccessToken("Alice", "alice@test.com", "SPONSOR", 7, 0)
+
+        val request = doFilter(token)
+
+        val attached = request.getAttribute(JwtUtil.CLAIMS_ATTRIBUTE) as JwtUtil.VerifiedToken
+        assertThat(attached.token).isEqualTo(token)
+        assertThat(attached.claims["email"]).isEqualTo("alice@test.com")
+    }
+
+    private fun doFilter(token: String): MockHttpServletRequest {
+        val request = MockHttpServletRequest("GET", "/api/users/profile/Alice")
+        request.addHeader("Authorization", "Bearer $token")
+        filter.doFilter(request, MockHttpServletResponse(), MockFilterChain())
+        return request
+    }
+}
@@ -0,0 +1,63 @@
+package funding.startreum.common.util
+
+import JwtAuthenticationFilter
+import funding.startreum.common.benchmark.Benchmark
+import funding.startreum.common.benchmark.Benchmarks
+import funding.startreum.common.benchmark.Benchmarks.report
+import funding.startreum.domain.users.repository.UserRepository
+import funding.startreum.domain.users.service.CustomUserDetailsService
+import funding.startreum.domain.users.service.TokenVersionRegistry
+import funding.startreum.domain.users.service.UserCache
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestReporter
+import org.mockito.Mockito.mock
+import org.springframework.mock.web.MockFilterChain
+import org.springframework.mock.web.MockHttpServletRequest
+import org.springframework.mock.web.MockHttpServletResponse
+import org.springframework.security.core.context.SecurityContextHolder
+import java.time.Duration
+
+/**
+ * JWT 필터 처리량 측정 - 검증 캐시 적중(같은 토큰 반복) vs 매번 파싱(요청마다 다른 토큰).
+ * - 실행: `BENCHMARK=true ./gradlew test --tests '*JwtFilterBenchmarkTest'`
+ * - 파싱 쪽은 라운드마다 처음 보는 토큰을 쓰므로 앞 라운드가 캐시에 넣은 토큰을 다시 쓰지 않음.
+ */
+@Benchmark
+class JwtFilterBenchmarkTest {
+
+    private val jwtUtil = JwtUtil(SimpleMeterRegistry(), 10_000, Duration.ofMinutes(5))
+    private val registry = TokenVersionRegistry().apply { remember(1, 0) }
+    private val filter = JwtAuthenticationFilter(
+        jwtUtil, mock(UserRepository::class.java).let {
+            CustomUserDetailsService(it, registry, UserCache(it, SimpleMeterRegistry()))
+        }
+    )
+
+    @Test
+    @DisplayName("JWT 필터 처리량 - 매번 파싱 vs 검증 캐시 적중")
+    fun filterThroughput(reporter: TestReporter) {
+        val distinct = List(Benchmarks.TOTAL_ROUNDS * ITERATIONS) { token(it) }
+        val same = token(-1)
+
+        reporter.report("parse", Benchmarks.measure(ITERATIONS) { round ->
+            for (i in 0 until ITERATIONS) run(distinct[round * ITERATIONS + i])
+        })
+        reporter.report("cached", Benchmarks.measure(ITERATIONS) { repeat(ITERATIONS) { run(same) } })
+    }
+
+    private fun token(seed: Int) =
+        jwtUtil.generateAccessToken("user$seed", "user$seed@test.com", "SPONSOR", 1, 0)
+
+    private fun run(token: String) {
+        val request = MockHttpServletRequest("GET", "/api/projects")
+        request.addHeader("Authorization", "Bearer $token")
+        filter.doFilter(request, MockHttpServletResponse(), MockFilterChain())
+        SecurityContextHolder.clearContext()
+    }
+
+    companion object {
+        private const val ITERATIONS = 2_000 // 파싱용 토큰은 라운드 수 x ITERATIONS개를 미리 만듦
+    }
+}
@@ -2,7 +2,10 @@ package funding.startreum.domain.comment.controller
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import funding.startreum.common.config.SecurityConfig
+import funding.startreum.common.util.JwtUtil
+import funding.startreum.common.ratelimit.WriteGuard
 import funding.startreum.domain.comment.dto.request.CommentRequest
+import funding.startreum.domain.comment.dto.response.CommentPageResponse
 import funding.startreum.domain.comment.dto.response.CommentResponse
 import funding.startreum.domain.comment.service.CommentService
 import funding.startreum.domain.users.service.CustomUserDetailsService
@@ -11,6 +14,7 @@ import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
 import org.mockito.BDDMockito.given
+import org.mockito.Mockito.verifyNoInteractions
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest
@@ -41,6 +45,12 @@ class CommentRestControllerTest {
     @MockitoBean
     lateinit var customUserDetailsService: CustomUserDetailsService
 
+    @MockitoBean
+    lateinit var jwtUtil: JwtUtil
+
+    @MockitoBean
+    lateinit var writeGuard: WriteGuard
+
     private val BASE_URL = "/api/comment"
 
     @Nested
@@ -59,7 +69,8 @@ class CommentRestControllerTest {
                 createdAt = now,
                 updatedAt = now
             )
-            given(commentService.generateCommentsResponse(projectId)).willReturn(listOf(commentResponse))
+            given(commentService.generateCommentsResponse(projectId, null, CommentService.DEFAULT_PAGE_SIZE))
+                .willReturn(CommentPageResponse(listOf(commentResponse), true, "next"))
 
             mockMvc.perform(
                 get("$BASE_URL/{projectId}", projectId)
@@ -67,15 +78,18 @@ class CommentRestControllerTest {
             )
                 .andExpect(status().isOk)
                 .andExpect(jsonPath("$.message", `is`("댓글 조회에 성공했습니다.")))
-                .andExpect(jsonPath("$.data[0].commentId", `is`(1)))
-                .andExpect(jsonPath("$.data[0].content", `is`("Test Comment")))
+                .andExpect(jsonPath("$.data.comments[0].commentId", `is`(1)))
+                .andExpect(jsonPath("$.data.comments[0].content", `is`("Test Comment")))
+                .andExpect(jsonPath("$.data.hasNext", `is`(true)))
+                .andExpect(jsonPath("$.data.nextCursor", `is`("next")))
         }
 
         @Test
         @DisplayName("1-2) 댓글이 없을 경우 '댓글이 없습니다.' 메시지를 반환한다")
         fun getComments_Empty() {
             val projectId = 1
-            given(commentService.generateCommentsResponse(projectId)).willReturn(emptyList())
+            given(commentService.generateCommentsResponse(projectId, null, CommentService.DEFAULT_PAGE_SIZE))
+                .willReturn(CommentPageResponse(emptyList(), false, null))
 
             mockMvc.perform(
                 get("$BASE_URL/{projectId}", projectId)
@@ -83,7 +97,7 @@ class CommentRestControllerTest {
             )
                 .andExpect(status().isOk)
                 .andExpect(jsonPath("$.message", `is`("댓글이 없습니다.")))
-                .andExpect(jsonPath("$.data").isEmpty)
+                .andExpect(jsonPath("$.data.comments").isEmpty)
         }
     }
 
@@ -105,6 +119,7 @@ class CommentRestControllerTest {
                 createdAt = now,
                 updatedAt = now
             )
+            given(writeGuard.check("testUser", "comment:$projectId", "New Comment")).willReturn(WriteGuard.Verdict.ALLOWED)
             given(commentService.generateNewCommentResponse(projectId, request, "testUser"))
                 .willReturn(commentResponse)
 
@@ -118,6 +133,46 @@ class CommentRestControllerTest {
                 .andExpect(jsonPath("$.data.commentId", `is`(1)))
                 .andExpect(jsonPath("$.data.content", `is`("Test Comment")))
         }
+
+        @Test
+        @DisplayName("2-2) 작성 빈도 제한에 걸리면 429를 반환하고 댓글을 만들지 않는다")
+        @WithMockUser(username = "testUser")
+        fun createComment_RateLimited() {
+            val projectId = 1
+            val request = CommentRequest("New Comment")
+            given(writeGuard.check("testUser", "comment:$projectId", "New Comment"))
+                .willReturn(WriteGuard.Verdict.RATE_LIMITED)
+
+            mockMvc.perform(
+                post("$BASE_URL/{projectId}", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+                .andExpect(status().isTooManyRequests)
+                .andExpect(jsonPath("$.message", `is`(WriteGuard.Verdict.RATE_LIMITED.message)))
+
+            verifyNoInteractions(commentService)
+        }
+
+        @Test
+        @DisplayName("2-3) 최근 댓글과 거의 같은 내용이면 409를 반환하고 댓글을 만들지 않는다")
+        @WithMockUser(username = "testUser")
+        fun createComment_Duplicate() {
+            val projectId = 1
+            val request = CommentRequest("New Comment")
+            given(writeGuard.check("testUser", "comment:$projectId", "New Comment"))
+                .willReturn(WriteGuard.Verdict.DUPLICATE)
+
+            mockMvc.perform(
+                post("$BASE_URL/{projectId}", projectId)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request))
+            )
+                .andExpect(status().isConflict)
+                .andExpect(jsonPath("$.message", `is`(WriteGuard.Verdict.DUPLICATE.message)))
+
+            verifyNoInteractions(commentService)
+        }
     }
 
     @Nested
@@ -0,0 +1,92 @@
+package funding.startreum.domain.comment.service
+
+import funding.startreum.domain.comment.dto.response.CommentResponse
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+import java.util.concurrent.atomic.AtomicInteger
+
+internal class CommentPageCacheTest {
+
+    private val base = LocalDateTime.of(2025, 3, 1, 0, 0)
+
+    private fun comment(id: Int, projectId: Int = 1, content: String = "댓글 $id") =
+        CommentResponse(id, projectId, "user", content, base.plusMinutes(id.toLong()), null)
+
+    /**
+     * 최신순 댓글 (ID가 클수록 최신)
+     */
+    private fun newest(count: Int, limit: Int = CommentPageCache.HEAD_SIZE + 1) =
+        (count downTo 1).take(limit).map { comment(it) }
+
+    @Test
+    @DisplayName("첫 요청에만 DB를 읽고, 캐시된 범위의 다음 페이지도 캐시에서 응답")
+    fun servesCachedPages() {
+        val cache = CommentPageCache(SimpleMeterRegistry(), Long.MAX_VALUE)
+        val loads = AtomicInteger()
+
+        val first = cache.page(1, null, 20) { loads.incrementAndGet(); newest(30) }!!
+        val second = cache.page(1, CommentCursor.decode(first.nextCursor), 20) { loads.incrementAndGet(); emptyList() }!!
+
+        assertThat(loads.get()).isEqualTo(1)
+        assertThat(first.comments.map { it.commentId }).startsWith(30, 29).hasSize(20)
+        assertThat(first.hasNext).isTrue()
+        assertThat(second.comments.map { it.commentId }).startsWith(10).endsWith(1).hasSize(10)
+        assertThat(second.hasNext).isFalse()
+    }
+
+    @Test
+    @DisplayName("캐시된 범위를 넘는 페이지는 null (DB 조회)")
+    fun returnsNullBeyondCachedHead() {
+        val cache = CommentPageCache(SimpleMeterRegistry(), Long.MAX_VALUE)
+        cache.page(1, null, 20) { newest(1_000) }
+
+        val last = comment(1_000 - CommentPageCache.HEAD_SIZE + 1)
+        val beyond = cache.page(1, CommentCursor.Position(last.createdAt, last.commentId), 20) { emptyList() }
+
+        assertThat(beyond).isNull()
+    }
+
+    @Test
+    @DisplayName("작성/수정/삭제를 캐시에 바로 반영")
+    fun writesThrough() {
+        val cache = CommentPageCache(SimpleMeterRegistry(), Long.MAX_VALUE)
+        cache.page(1, null, 20) { newest(3) }
+
+        cache.added(comment(4))
+        cache.updated(comment(2, content = "수정됨"))
+        cache.removed(1, 3)
+
+        val page = cache.page(1, null, 20) { error("DB를 읽으면 안 됨") }!!
+        assertThat(page.comments.map { it.commentId }).containsExactly(4, 2, 1)
+        assertThat(page.comments[1].content).isEqualTo("수정됨")
+    }
+
+    @Test
+    @DisplayName("DB를 읽는 동안 쓰기가 있었으면 읽은 결과를 캐시에 넣지 않음")
+    fun skipsInstallWhenWrittenDuringLoad() {
+        val cache = CommentPageCache(SimpleMeterRegistry(), Long.MAX_VALUE)
+
+        val page = cache.page(1, null, 20) { newest(3).also { cache.added(comment(4)) } }
+
+        assertThat(page!!.comments).hasSize(3)
+        assertThat(cache.size()).isZero()
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 안 읽힌 프로젝트부터 제거")
+    fun evictsColdProjects() {
+        val cache = CommentPageCache(SimpleMeterRegistry(), 5_000)
+        cache.page(1, null, 20) { (10 downTo 1).map { comment(it, projectId = 1) } }
+        cache.page(2, null, 20) { (10 downTo 1).map { comment(it, projectId = 2) } }
+        cache.page(1, null, 20) { error("캐시에 있어야 함") } // 1번을 최근 사용으로
+
+        cache.page(3, null, 20) { (10 downTo 1).map { comment(it, projectId = 3) } }
+
+        assertThat(cache.totalBytes()).isLessThanOrEqualTo(5_000)
+        assertThat(cache.page(1, null, 20) { error("캐시에 있어야 함") }).isNotNull()
+        assertThat(cache.size()).isEqualTo(2)
+    }
+}
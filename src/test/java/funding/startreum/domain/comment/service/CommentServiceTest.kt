@@ -1,6 +1,7 @@
 package funding.startreum.domain.comment.service
 
 import funding.startreum.domain.comment.dto.request.CommentRequest
+import funding.startreum.domain.comment.dto.response.CommentResponse
 import funding.startreum.domain.comment.entity.Comment
 import funding.startreum.domain.comment.repository.CommentRepository
 import funding.startreum.domain.project.entity.Project
@@ -18,6 +19,7 @@ import org.mockito.*
 import org.mockito.invocation.InvocationOnMock
 import org.mockito.junit.jupiter.MockitoExtension
 import org.mockito.kotlin.given
+import org.springframework.data.domain.PageRequest
 import org.springframework.security.access.AccessDeniedException
 import java.time.LocalDateTime
 import java.util.*
@@ -33,6 +35,9 @@ internal class CommentServiceTest {
     @Mock
     lateinit var projectService: ProjectService
 
+    @Mock
+    lateinit var commentPageCache: CommentPageCache
+
     @InjectMocks
     lateinit var commentService: CommentService
 
@@ -92,38 +97,45 @@ internal class CommentServiceTest {
     }
 
     @Nested
-    @DisplayName("getComments() 테스트")
-    internal inner class GetCommentsTests {
+    @DisplayName("generateCommentsResponse() 테스트")
+    internal inner class GenerateCommentsResponseTests {
+        private fun response(id: Int, createdAt: LocalDateTime) =
+            CommentResponse(id, 1, "testUser", "댓글 $id", createdAt, createdAt)
+
         @Test
-        @DisplayName("프로젝트의 댓글 리스트 반환")
-        fun testGetComments() {
-            val commentsList = listOf(testComment)
-            BDDMockito.given<List<Comment?>>(
-                commentRepository.findByProject_ProjectId(1)
-            ).willReturn(commentsList)
+        @DisplayName("한 건 더 조회해 다음 페이지가 있으면 커서 반환")
+        fun testFirstPageWithNext() {
+            val rows = listOf(response(3, now), response(2, now.minusMinutes(1)), response(1, now.minusMinutes(2)))
+            given(commentRepository.findPageByProjectId(1, PageRequest.of(0, 3))).willReturn(rows)
 
-            val comments = commentService.getComments(1)
+            val page = commentService.generateCommentsResponse(1, null, 2)
 
-            Assertions.assertThat(comments).isEqualTo(commentsList)
+            Assertions.assertThat(page.comments).extracting("commentId").containsExactly(3, 2)
+            Assertions.assertThat(page.hasNext).isTrue()
+            Assertions.assertThat(CommentCursor.decode(page.nextCursor))
+                .isEqualTo(CommentCursor.Position(now.minusMinutes(1), 2))
         }
-    }
 
-    @Nested
-    @DisplayName("generateCommentsResponse() 테스트")
-    internal inner class GenerateCommentsResponseTests {
         @Test
-        @DisplayName("댓글 응답 DTO 리스트 반환")
-        fun testGenerateCommentsResponse() {
-            val commentsList = listOf(testComment)
-            BDDMockito.given<List<Comment?>>(
-                commentRepository.findByProject_ProjectId(1)
-            ).willReturn(commentsList)
-
-            val responses = commentService.generateCommentsResponse(1)
-
-            Assertions.assertThat(responses).isNotEmpty()
-            Assertions.assertThat(responses[0].commentId).isEqualTo(testComment.commentId)
-            Assertions.assertThat(responses[0].content).isEqualTo(testComment.content)
+        @DisplayName("커서가 있으면 커서 다음부터 조회하고, 마지막 페이지는 커서 없음")
+        fun testNextPage() {
+            val cursor = CommentCursor.encode(now.minusMinutes(1), 2)
+            given(commentRepository.findPageByProjectIdAfter(1, now.minusMinutes(1), 2, PageRequest.of(0, 3)))
+                .willReturn(listOf(response(1, now.minusMinutes(2))))
+
+            val page = commentService.generateCommentsResponse(1, cursor, 2)
+
+            Assertions.assertThat(page.comments).extracting("commentId").containsExactly(1)
+            Assertions.assertThat(page.hasNext).isFalse()
+            Assertions.assertThat(page.nextCursor).isNull()
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 IllegalArgumentException 발생")
+        fun testInvalidCursor() {
+            val thrown = Assertions.catchThrowable { commentService.generateCommentsResponse(1, "not-a-cursor", 20) }
+
+            Assertions.assertThat(thrown).isInstanceOf(IllegalArgumentException::class.java)
         }
     }
 
@@ -228,6 +240,7 @@ internal class CommentServiceTest {
             commentService.deleteComment(1, "testUser")
 
             Mockito.verify(commentRepository).delete(testComment)
+            Mockito.verify(commentPageCache).removed(1, 1)
         }
 
         @Test
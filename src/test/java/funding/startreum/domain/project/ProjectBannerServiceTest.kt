@@ -0,0 +1,62 @@
+package funding.startreum.domain.project
+
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.awt.image.BufferedImage
+import java.io.ByteArrayInputStream
+import java.io.ByteArrayOutputStream
+import javax.imageio.ImageIO
+
+internal class ProjectBannerServiceTest {
+
+    @Test
+    @DisplayName("요청 너비 이상인 가장 작은 썸네일 너비를 고름")
+    fun snapsToFixedWidths() {
+        assertThat(ProjectBannerService.snapWidth(100)).isEqualTo(160)
+        assertThat(ProjectBannerService.snapWidth(320)).isEqualTo(320)
+        assertThat(ProjectBannerService.snapWidth(321)).isEqualTo(640)
+        assertThat(ProjectBannerService.snapWidth(5000)).isEqualTo(640)
+    }
+
+    @Test
+    @DisplayName("비율을 유지해 줄이고, 원본보다 크게 늘리지 않음")
+    fun resizesKeepingAspectRatio() {
+        val large = BufferedImage(2000, 1000, BufferedImage.TYPE_INT_ARGB)
+        val small = BufferedImage(100, 50, BufferedImage.TYPE_INT_RGB)
+
+        val resized = ProjectBannerService.resize(large, 320)
+        val notUpscaled = ProjectBannerService.resize(small, 320)
+
+        assertThat(resized.width).isEqualTo(320)
+        assertThat(resized.height).isEqualTo(160)
+        assertThat(notUpscaled.width).isEqualTo(100)
+        assertThat(notUpscaled.height).isEqualTo(50)
+    }
+
+    @Test
+    @DisplayName("헤더의 가로/세로가 한도를 넘으면 디코딩하지 않고 거부")
+    fun rejectsOversizedImageBeforeDecoding() {
+        val wide = png(BufferedImage(ProjectBannerService.MAX_SOURCE_DIMENSION + 1, 1, BufferedImage.TYPE_BYTE_BINARY))
+        val ok = png(BufferedImage(640, 320, BufferedImage.TYPE_INT_RGB))
+
+        assertThatThrownBy { ProjectBannerService.decode(ByteArrayInputStream(wide)) }
+            .isInstanceOf(ProjectBannerService.UnreadableBannerException::class.java)
+        assertThat(ProjectBannerService.decode(ByteArrayInputStream(ok)).width).isEqualTo(640)
+    }
+
+    @Test
+    @DisplayName("이미지가 아니거나 깨진 원본은 UnreadableBannerException")
+    fun rejectsCorruptImage() {
+        val truncated = png(BufferedImage(640, 320, BufferedImage.TYPE_INT_RGB)).copyOf(40)
+
+        assertThatThrownBy { ProjectBannerService.decode(ByteArrayInputStream("not an image".toByteArray())) }
+            .isInstanceOf(ProjectBannerService.UnreadableBannerException::class.java)
+        assertThatThrownBy { ProjectBannerService.decode(ByteArrayInputStream(truncated)) }
+            .isInstanceOf(ProjectBannerService.UnreadableBannerException::class.java)
+    }
+
+    private fun png(image: BufferedImage): ByteArray =
+        ByteArrayOutputStream().also { ImageIO.write(image, "png", it) }.toByteArray()
+}
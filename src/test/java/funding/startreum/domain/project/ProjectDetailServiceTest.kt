@@ -0,0 +1,91 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
+import funding.startreum.domain.project.repository.ProjectRepository
+import funding.startreum.domain.users.entity.User
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import funding.startreum.domain.project.exception.ProjectNotFoundException
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.Mockito.lenient
+import org.mockito.Mockito.`when`
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.junit.jupiter.MockitoExtension
+import java.math.BigDecimal
+import java.time.LocalDateTime
+import java.util.Optional
+
+@ExtendWith(MockitoExtension::class)
+internal class ProjectDetailServiceTest {
+
+    @Mock
+    private lateinit var projectRepository: ProjectRepository
+
+    private lateinit var projectDetailService: ProjectDetailService
+    private lateinit var project: Project
+
+    @BeforeEach
+    fun setUp() {
+        projectDetailService = ProjectDetailService(projectRepository, SimpleMeterRegistry())
+        project = Project().apply {
+            projectId = 1
+            creator = User().apply { name = "creator" }
+            title = "스마트 로봇"
+            fundingGoal = BigDecimal.valueOf(1000)
+            startDate = LocalDateTime.of(2025, 3, 1, 0, 0)
+            endDate = LocalDateTime.of(2025, 4, 1, 0, 0)
+        }
+        lenient().`when`(projectRepository.findWithCreatorById(1)).thenAnswer { Optional.of(project) }
+    }
+
+    @Test
+    @DisplayName("두 번째 조회는 캐시에서 같은 ETag로 응답")
+    fun cachesDetailWithStableEtag() {
+        val first = projectDetailService.getCachedProjectDetail(1)
+        val second = projectDetailService.getCachedProjectDetail(1)
+
+        assertThat(second).isSameAs(first)
+        assertThat(first.etag).matches("\"[0-9a-f]{32}\"")
+        assertThat(first.detail.startDate).isEqualTo("2025-03-01")
+        verify(projectRepository, times(1)).findWithCreatorById(1)
+    }
+
+    @Test
+    @DisplayName("모금액이 바뀌어 이벤트가 오면 다시 읽고 ETag도 바뀜")
+    fun invalidatesOnChange() {
+        val before = projectDetailService.getCachedProjectDetail(1)
+
+        project.currentFunding = BigDecimal.valueOf(500)
+        projectDetailService.onProjectChanged(ProjectChangedEvent(1, ChangeType.FUNDING, BigDecimal.valueOf(500)))
+        val after = projectDetailService.getCachedProjectDetail(1)
+
+        assertThat(after.detail.currentFunding).isEqualByComparingTo("500")
+        assertThat(after.etag).isNotEqualTo(before.etag)
+        verify(projectRepository, times(2)).findWithCreatorById(1)
+    }
+
+    @Test
+    @DisplayName("없는 프로젝트는 부정 캐시에 남아 다시 조회해도 DB를 조회하지 않음")
+    fun cachesMissingProject() {
+        `when`(projectRepository.findWithCreatorById(999)).thenReturn(Optional.empty())
+
+        repeat(3) {
+            assertThatThrownBy { projectDetailService.getCachedProjectDetail(999) }
+                .isInstanceOf(ProjectNotFoundException::class.java)
+        }
+        verify(projectRepository, times(1)).findWithCreatorById(999)
+
+        projectDetailService.onProjectChanged(ProjectChangedEvent(999, ChangeType.APPROVAL))
+        assertThatThrownBy { projectDetailService.getCachedProjectDetail(999) }
+            .isInstanceOf(ProjectNotFoundException::class.java)
+        verify(projectRepository, times(2)).findWithCreatorById(999)
+    }
+}
@@ -0,0 +1,74 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.ProjectFacetIndex.Entry
+import funding.startreum.domain.project.ProjectFacetIndex.FundingBand
+import funding.startreum.domain.project.entity.Project
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.math.BigDecimal
+import java.util.BitSet
+
+internal class ProjectFacetIndexTest {
+
+    lateinit var index: ProjectFacetIndex
+
+    @BeforeEach
+    fun setUp() {
+        index = ProjectFacetIndex()
+        index.replaceAll(
+            listOf(
+                Entry(1, Project.Status.ONGOING, FundingBand.UNDER_25),
+                Entry(2, Project.Status.ONGOING, FundingBand.FROM_75_TO_100),
+                Entry(3, Project.Status.SUCCESS, FundingBand.OVER_100),
+                Entry(4, Project.Status.FAILED, FundingBand.UNDER_25)
+            )
+        )
+    }
+
+    @Test
+    @DisplayName("상태 패싯은 상태 필터 전, 달성률 패싯과 total은 상태 필터 후 기준으로 계산")
+    fun facetsForMatches() {
+        val facets = index.facets(bitsOf(1, 2, 4, 99), Project.Status.ONGOING)
+
+        assertThat(facets.total).isEqualTo(2)
+        assertThat(facets.status).containsEntry(Project.Status.ONGOING, 2L)
+            .containsEntry(Project.Status.SUCCESS, 0L)
+            .containsEntry(Project.Status.FAILED, 1L)
+        assertThat(facets.fundingBand).containsEntry(FundingBand.UNDER_25, 1L)
+            .containsEntry(FundingBand.FROM_75_TO_100, 1L)
+            .containsEntry(FundingBand.OVER_100, 0L)
+    }
+
+    @Test
+    @DisplayName("갱신과 삭제가 패싯 건수에 반영되고, 호출자가 넘긴 집합은 바뀌지 않음")
+    fun upsertAndRemove() {
+        index.upsert(Entry(1, Project.Status.SUCCESS, FundingBand.OVER_100))
+        index.remove(4)
+        val matches = index.all()
+
+        val facets = index.facets(matches, null)
+
+        assertThat(facets.total).isEqualTo(3)
+        assertThat(facets.status).containsEntry(Project.Status.SUCCESS, 2L)
+            .containsEntry(Project.Status.FAILED, 0L)
+        assertThat(facets.fundingBand).containsEntry(FundingBand.OVER_100, 2L)
+            .containsEntry(FundingBand.UNDER_25, 0L)
+        assertThat(matches).isEqualTo(bitsOf(1, 2, 3))
+    }
+
+    @Test
+    @DisplayName("달성률 구간 경계값")
+    fun fundingBandBoundaries() {
+        val goal = BigDecimal.valueOf(1000)
+
+        assertThat(FundingBand.of(BigDecimal.valueOf(249), goal)).isEqualTo(FundingBand.UNDER_25)
+        assertThat(FundingBand.of(BigDecimal.valueOf(250), goal)).isEqualTo(FundingBand.FROM_25_TO_50)
+        assertThat(FundingBand.of(BigDecimal.valueOf(999), goal)).isEqualTo(FundingBand.FROM_75_TO_100)
+        assertThat(FundingBand.of(BigDecimal.valueOf(1000), goal)).isEqualTo(FundingBand.OVER_100)
+        assertThat(FundingBand.of(BigDecimal.ZERO, BigDecimal.ZERO)).isEqualTo(FundingBand.OVER_100)
+    }
+
+    private fun bitsOf(vararg ids: Int) = BitSet().apply { ids.forEach { set(it) } }
+}
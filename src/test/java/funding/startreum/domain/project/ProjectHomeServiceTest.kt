@@ -0,0 +1,74 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.entity.Project
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.ArgumentMatchers.isNull
+import org.mockito.Mock
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import java.math.BigDecimal
+import java.time.LocalDateTime
+
+@ExtendWith(MockitoExtension::class)
+internal class ProjectHomeServiceTest {
+
+    @Mock
+    private lateinit var projectSearchService: ProjectSearchService
+
+    private lateinit var projectHomeService: ProjectHomeService
+
+    @BeforeEach
+    fun setUp() {
+        projectHomeService = ProjectHomeService(projectSearchService)
+    }
+
+    private fun project(id: Int) = ProjectSearchDto(
+        id, "프로젝트 $id", "간단 설명", "/img/$id.png", BigDecimal.valueOf(1000), BigDecimal.ZERO,
+        LocalDateTime.of(2025, 3, 1, 0, 0), LocalDateTime.of(2025, 4, 1, 0, 0), Project.Status.ONGOING, 10L
+    )
+
+    private fun slice(vararg ids: Int) = ProjectSearchSlice(ids.map { project(it) }, false, null, null)
+
+    @Test
+    @DisplayName("내용이 같으면 버전을 올리지 않고, 바뀌면 올림")
+    fun bumpsVersionOnlyWhenContentChanges() {
+        `when`(projectSearchService.browse(eq("TRENDING"), isNull(), anyInt()))
+            .thenReturn(slice(1, 2), slice(1, 2), slice(2, 1))
+        `when`(projectSearchService.browse(eq("ENDING_SOON"), isNull(), anyInt())).thenReturn(slice(3))
+
+        projectHomeService.refresh()
+        val first = projectHomeService.snapshot()
+        projectHomeService.refresh()
+        val second = projectHomeService.snapshot()
+        projectHomeService.refresh()
+        val third = projectHomeService.snapshot()
+
+        assertThat(first.version).isEqualTo(1)
+        assertThat(first.trending.map { it.projectId }).containsExactly(1, 2)
+        assertThat(first.endingSoon.map { it.projectId }).containsExactly(3)
+        assertThat(second).isSameAs(first)
+        assertThat(third.version).isEqualTo(2)
+        assertThat(third.trending.map { it.projectId }).containsExactly(2, 1)
+    }
+
+    @Test
+    @DisplayName("갱신에 실패하면 이전 스냅샷 유지")
+    fun keepsPreviousSnapshotOnFailure() {
+        `when`(projectSearchService.browse(eq("TRENDING"), isNull(), anyInt()))
+            .thenReturn(slice(1))
+            .thenThrow(IllegalStateException("색인 오류"))
+        `when`(projectSearchService.browse(eq("ENDING_SOON"), isNull(), anyInt())).thenReturn(slice(2))
+
+        projectHomeService.refresh()
+        val before = projectHomeService.snapshot()
+        projectHomeService.refresh()
+
+        assertThat(projectHomeService.snapshot()).isSameAs(before)
+    }
+}
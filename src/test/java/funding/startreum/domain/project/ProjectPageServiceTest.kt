@@ -0,0 +1,120 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.comment.dto.response.CommentPageResponse
+import funding.startreum.domain.comment.service.CommentService
+import funding.startreum.domain.funding.repository.FundingRepository
+import funding.startreum.domain.reward.service.RewardService
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.ArgumentMatchers.eq
+import org.mockito.ArgumentMatchers.isNull
+import org.mockito.Mock
+import org.mockito.Mockito.lenient
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import java.math.BigDecimal
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+@ExtendWith(MockitoExtension::class)
+internal class ProjectPageServiceTest {
+
+    @Mock
+    private lateinit var projectDetailService: ProjectDetailService
+
+    @Mock
+    private lateinit var rewardService: RewardService
+
+    @Mock
+    private lateinit var commentService: CommentService
+
+    @Mock
+    private lateinit var fundingRepository: FundingRepository
+
+    private lateinit var projectPageService: ProjectPageService
+
+    private val detail = ProjectDetailDto(
+        1, "스마트 로봇", null, "설명", BigDecimal.valueOf(1000), BigDecimal.ZERO,
+        "진행중", "2025-03-01", "2025-04-01", "creator", "간단 설명"
+    )
+
+    private val emptyPage = CommentPageResponse(emptyList(), false, null)
+
+    @BeforeEach
+    fun setUp() {
+        projectPageService = ProjectPageService(projectDetailService, rewardService, commentService, fundingRepository)
+        lenient().`when`(fundingRepository.getFundingStats(1)).thenReturn(object : FundingRepository.FundingStats {
+            override val sponsorCount = 3L
+            override val fundingCount = 4L
+        })
+        lenient().`when`(fundingRepository.sumRecentAmountByProjectId(eq(1), any())).thenReturn(BigDecimal.TEN)
+    }
+
+    @AfterEach
+    fun tearDown() {
+        projectPageService.shutdown()
+    }
+
+    @Test
+    @DisplayName("늦은 부분은 missing으로 표시하고 나머지는 함께 반환")
+    fun returnsPartialResultWhenPartIsSlow() {
+        `when`(projectDetailService.getProjectDetail(1)).thenReturn(detail)
+        `when`(rewardService.generateRewardsResponse(1)).thenReturn(emptyList())
+        `when`(commentService.generateCommentsResponse(eq(1), isNull(), anyInt())).thenAnswer {
+            Thread.sleep(ProjectPageService.PART_TIMEOUT.toMillis() * 3)
+            emptyPage
+        }
+
+        val start = System.nanoTime()
+        val page = projectPageService.getProjectPage(1)
+        val elapsedMillis = (System.nanoTime() - start) / 1_000_000
+
+        assertThat(page.detail).isEqualTo(detail)
+        assertThat(page.rewards).isEmpty()
+        assertThat(page.comments).isNull()
+        assertThat(page.fundingStats.sponsorCount).isEqualTo(3)
+        assertThat(page.fundingStats.recentAmount).isEqualByComparingTo("10")
+        assertThat(page.missing).containsExactly("comments")
+        assertThat(elapsedMillis).isLessThan(ProjectPageService.PART_TIMEOUT.toMillis() * 2)
+    }
+
+    @Test
+    @DisplayName("마감이 지난 부분은 실행 중인 스레드를 인터럽트해 멈춤")
+    fun interruptsSlowPart() {
+        val interrupted = CountDownLatch(1)
+        `when`(projectDetailService.getProjectDetail(1)).thenReturn(detail)
+        `when`(rewardService.generateRewardsResponse(1)).thenAnswer {
+            try {
+                Thread.sleep(ProjectPageService.PART_TIMEOUT.toMillis() * 10)
+            } catch (e: InterruptedException) {
+                interrupted.countDown()
+            }
+            emptyList<Any>()
+        }
+        `when`(commentService.generateCommentsResponse(eq(1), isNull(), anyInt())).thenReturn(emptyPage)
+
+        val page = projectPageService.getProjectPage(1)
+
+        assertThat(page.missing).containsExactly("rewards")
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue()
+    }
+
+    @Test
+    @DisplayName("상세 조회 실패는 그대로 전달")
+    fun propagatesDetailFailure() {
+        `when`(projectDetailService.getProjectDetail(1))
+            .thenThrow(IllegalArgumentException("해당 프로젝트를 찾을 수 없습니다. ID: 1"))
+        lenient().`when`(rewardService.generateRewardsResponse(1)).thenReturn(emptyList())
+        lenient().`when`(commentService.generateCommentsResponse(eq(1), isNull(), anyInt())).thenReturn(emptyPage)
+
+        assertThatThrownBy { projectPageService.getProjectPage(1) }
+            .isInstanceOf(IllegalArgumentException::class.java)
+    }
+}
@@ -0,0 +1,86 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.funding.repository.FundingRepository
+import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.users.entity.User
+import funding.startreum.common.benchmark.Benchmark
+import funding.startreum.common.benchmark.Benchmarks
+import funding.startreum.common.benchmark.Benchmarks.report
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.TestReporter
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import java.math.BigDecimal
+import java.time.LocalDateTime
+
+/**
+ * 검색 한 페이지 조회 대비 패싯 계산이 더하는 지연 측정.
+ * - 실행: `BENCHMARK=true ./gradlew test --tests '*ProjectSearchFacetBenchmark'`
+ * - 매 반복마다 검색 캐시를 비운 상태(캐시 미스)로, 검색어 매치 스캔과 목록 조회를 모두 포함해 측정.
+ * - 페이지와 패싯은 같은 매치 스캔 결과를 쓰므로, 패싯이 더하는 비용은 BitSet 교집합뿐.
+ */
+@DataJpaTest
+@Benchmark
+internal class ProjectSearchFacetBenchmark {
+
+    @Autowired
+    lateinit var projectSearchRepository: ProjectSearchRepository
+
+    @Autowired
+    lateinit var fundingRepository: FundingRepository
+
+    @Autowired
+    lateinit var entityManager: TestEntityManager
+
+    @Test
+    @DisplayName("검색(캐시 미스) 한 번과 패싯 계산 한 번의 지연 측정")
+    fun facetCostComparedToSearch(reporter: TestReporter) {
+        val creator = entityManager.persist(User().apply {
+            name = "creator"
+            email = "creator@example.com"
+        })
+        val statuses = Project.Status.values()
+        repeat(PROJECT_COUNT) { i ->
+            entityManager.persist(Project().apply {
+                this.creator = creator
+                title = if (i % 5 == 0) "스마트 로봇 $i" else "프로젝트 $i"
+                simpleDescription = "간단 설명"
+                description = "상세 설명 $i"
+                fundingGoal = BigDecimal.valueOf(1000)
+                currentFunding = BigDecimal.valueOf((i * 37L) % 1500)
+                endDate = LocalDateTime.now().plusDays(10)
+                status = statuses[i % statuses.size]
+                isApproved = Project.ApprovalStatus.APPROVE
+            })
+        }
+        entityManager.flush()
+        entityManager.clear()
+
+        val service = ProjectSearchService(projectSearchRepository, fundingRepository, SimpleMeterRegistry())
+        service.rebuildIndexes()
+
+        val index = ProjectFacetIndex()
+        index.replaceAll(projectSearchRepository.findFacetSources().map {
+            ProjectFacetIndex.Entry(it.projectId, it.status, ProjectFacetIndex.FundingBand.of(it.currentFunding, it.fundingGoal))
+        })
+        val matches = ProjectSearchService.KeywordMatches.of(projectSearchRepository.findApprovedMatchesByKeyword("로봇"))
+
+        reporter.report("search (cold, facets 포함)", Benchmarks.measure(ITERATIONS) {
+            repeat(ITERATIONS) {
+                service.invalidateCaches()
+                service.searchProjects("로봇", "ONGOING", null, 0, 10)
+            }
+        })
+        reporter.report("facets", Benchmarks.measure(ITERATIONS) {
+            repeat(ITERATIONS) { index.facets(matches.ids(), Project.Status.ONGOING) }
+        })
+    }
+
+    companion object {
+        private const val PROJECT_COUNT = 5_000
+        private const val ITERATIONS = 200
+    }
+}
@@ -0,0 +1,41 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.entity.Project
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+internal class ProjectSearchKeywordMatchesTest {
+
+    private val matches = ProjectSearchService.KeywordMatches.of(
+        listOf(
+            match(9, Project.Status.ONGOING),
+            match(7, Project.Status.SUCCESS),
+            match(5, Project.Status.ONGOING),
+            match(3, Project.Status.ONGOING),
+            match(1, Project.Status.FAILED),
+        )
+    )
+
+    @Test
+    @DisplayName("커서보다 작은 ID부터 상태가 맞는 항목만 고름")
+    fun pageByCursorAndStatus() {
+        assertThat(matches.page(null, Int.MAX_VALUE, 0, 3)).containsExactly(9, 7, 5)
+        assertThat(matches.page(null, 5, 0, 3)).containsExactly(3, 1)
+        assertThat(matches.page(Project.Status.ONGOING, 9, 0, 10)).containsExactly(5, 3)
+        assertThat(matches.page(null, 6, 0, 10)).containsExactly(5, 3, 1)
+        assertThat(matches.page(null, 1, 0, 10)).isEmpty()
+    }
+
+    @Test
+    @DisplayName("커서가 없으면 오프셋만큼 건너뜀, 패싯용 ID 집합은 전체")
+    fun offsetPageAndIds() {
+        assertThat(matches.page(Project.Status.ONGOING, Int.MAX_VALUE, 2, 2)).containsExactly(3)
+        assertThat(matches.ids().stream().toArray()).containsExactly(1, 3, 5, 7, 9)
+    }
+
+    private fun match(id: Int, status: Project.Status) = object : ProjectSearchRepository.KeywordMatch {
+        override fun getProjectId(): Int = id
+        override fun getStatus(): Project.Status = status
+    }
+}
@@ -0,0 +1,133 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.entity.Project
+import funding.startreum.domain.users.entity.User
+import org.assertj.core.api.Assertions.assertThat
+import org.hibernate.resource.jdbc.spi.StatementInspector
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.data.domain.PageRequest
+import java.math.BigDecimal
+import java.time.LocalDateTime
+import java.util.concurrent.CopyOnWriteArrayList
+
+@DataJpaTest(
+    properties = ["spring.jpa.properties.hibernate.session_factory.statement_inspector=funding.startreum.domain.project.ProjectSearchRepositoryTest\$SqlCapture"]
+)
+internal class ProjectSearchRepositoryTest {
+
+    /**
+     * 실행되는 SQL을 모아 두는 Hibernate StatementInspector
+     */
+    class SqlCapture : StatementInspector {
+        override fun inspect(sql: String): String {
+            statements.add(sql.lowercase())
+            return sql
+        }
+
+        companion object {
+            val statements = CopyOnWriteArrayList<String>()
+        }
+    }
+
+    @Autowired
+    lateinit var projectSearchRepository: ProjectSearchRepository
+
+    @Autowired
+    lateinit var entityManager: TestEntityManager
+
+    @BeforeEach
+    fun setUp() {
+        val creator = entityManager.persist(User().apply {
+            name = "creator"
+            email = "creator@example.com"
+        })
+        entityManager.persist(Project().apply {
+            this.creator = creator
+            title = "스마트 로봇"
+            simpleDescription = "간단 설명"
+            description = "아주 긴 상세 설명 ".repeat(500)
+            fundingGoal = BigDecimal.valueOf(1000)
+            endDate = LocalDateTime.now().plusDays(10)
+            isApproved = Project.ApprovalStatus.APPROVE
+        })
+        entityManager.flush()
+        entityManager.clear()
+        SqlCapture.statements.clear()
+    }
+
+    @Test
+    @DisplayName("전체 목록 조회 SQL은 description 컬럼을 읽지 않음")
+    fun findAllApprovedSkipsDescription() {
+        val page = projectSearchRepository.findAllApproved(Int.MAX_VALUE, PageRequest.of(0, 10))
+
+        assertThat(page.content).extracting("title").containsExactly("스마트 로봇")
+        assertThat(SqlCapture.statements).isNotEmpty
+        assertThat(SqlCapture.statements).noneMatch { DESCRIPTION_COLUMN.containsMatchIn(it) }
+    }
+
+    @Test
+    @DisplayName("키워드 검색 SQL은 description을 조건에만 쓰고 select 절에서는 읽지 않음")
+    fun searchSelectsListingColumnsOnly() {
+        val matches = projectSearchRepository.findApprovedMatchesByKeyword("로봇")
+        val listings = projectSearchRepository.findListingsByIds(matches.map { it.projectId })
+
+        assertThat(matches).extracting("status").containsExactly(Project.Status.ONGOING)
+        assertThat(listings).hasSize(1)
+        assertThat(listings[0].daysLeft).isGreaterThanOrEqualTo(9)
+        assertThat(SqlCapture.statements).isNotEmpty
+        assertThat(SqlCapture.statements.map { selectClauseOf(it) })
+            .noneMatch { DESCRIPTION_COLUMN.containsMatchIn(it) }
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회는 COUNT 쿼리를 실행하지 않고, 커서 이후 항목만 반환")
+    fun cursorPageSkipsCountQuery() {
+        val first = projectSearchRepository.findAllApproved(Int.MAX_VALUE, PageRequest.of(0, 10))
+        val lastId = first.content.last().projectId
+        val next = projectSearchRepository.findAllApproved(
+            ProjectSearchCursor.decode(ProjectSearchCursor.encode(lastId)), PageRequest.of(0, 10)
+        )
+
+        assertThat(first.hasNext()).isFalse()
+        assertThat(next.content).isEmpty()
+        assertThat(SqlCapture.statements).noneMatch { it.contains("count(") }
+        assertThat(projectSearchRepository.findApprovedMatchesByKeyword("로봇").map { it.projectId }).containsExactly(lastId)
+    }
+
+    @Test
+    @DisplayName("키워드 검색은 대소문자를 구분하지 않음 (\"Smart\"/\"smart\" 모두 \"Smart Watch\"를 찾음)")
+    fun keywordSearchIgnoresCase() {
+        val creator = entityManager.persist(User().apply {
+            name = "maker"
+            email = "maker@example.com"
+        })
+        val watch = entityManager.persist(Project().apply {
+            this.creator = creator
+            title = "Smart Watch"
+            simpleDescription = "간단 설명"
+            description = "Wearable DEVICE"
+            fundingGoal = BigDecimal.valueOf(1000)
+            endDate = LocalDateTime.now().plusDays(10)
+            isApproved = Project.ApprovalStatus.APPROVE
+        })
+        entityManager.flush()
+        entityManager.clear()
+
+        for (keyword in listOf("Smart", "smart", "SMART WATCH", "device")) {
+            assertThat(projectSearchRepository.findApprovedMatchesByKeyword(keyword).map { it.projectId })
+                .containsExactly(watch.projectId)
+        }
+    }
+
+    private fun selectClauseOf(sql: String): String = sql.substringBefore(" from ")
+
+    companion object {
+        // simple_description 은 제외하고 description 컬럼만 매칭
+        private val DESCRIPTION_COLUMN = Regex("\\bdescription\\b")
+    }
+}
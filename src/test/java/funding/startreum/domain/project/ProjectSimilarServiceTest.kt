@@ -0,0 +1,58 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.event.ProjectChangedEvent
+import funding.startreum.domain.project.event.ProjectChangedEvent.ChangeType
+import funding.startreum.domain.project.repository.ProjectRepository
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyInt
+import org.mockito.Mock
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.data.domain.Pageable
+import java.util.Optional
+
+@ExtendWith(MockitoExtension::class)
+internal class ProjectSimilarServiceTest {
+
+    @Mock
+    private lateinit var projectRepository: ProjectRepository
+
+    private lateinit var service: ProjectSimilarService
+
+    @BeforeEach
+    fun setUp() {
+        service = ProjectSimilarService(projectRepository)
+    }
+
+    @Test
+    @DisplayName("재색인 중에 삭제/추가된 프로젝트는 교체 후 새 색인에도 반영")
+    fun changesDuringRebuildSurviveSwap() {
+        val robot = source(1, "스마트 로봇 키트", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트입니다.")
+        val robot2 = source(2, "스마트 로봇 키트 2", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트 두 번째 버전입니다.")
+        val robot3 = source(3, "스마트 로봇 키트 3", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트 세 번째 버전입니다.")
+
+        `when`(projectRepository.findSimilarSourceById(2)).thenReturn(Optional.empty())
+        `when`(projectRepository.findSimilarSourceById(3)).thenReturn(Optional.of(robot3))
+        // 배치(2번 포함)를 읽는 사이에 2번이 삭제되고 3번이 승인됨
+        `when`(projectRepository.findSimilarSources(anyInt(), any(Pageable::class.java))).thenAnswer {
+            service.onProjectChanged(ProjectChangedEvent(2, ChangeType.DELETED))
+            service.onProjectChanged(ProjectChangedEvent(3, ChangeType.APPROVAL))
+            listOf(robot, robot2)
+        }
+
+        service.rebuild()
+
+        assertThat(service.similar(1, 5).map { it.projectId }).containsExactly(3)
+    }
+
+    private fun source(id: Int, title: String, description: String) = object : ProjectRepository.SimilarSource {
+        override fun getProjectId(): Int = id
+        override fun getTitle(): String = title
+        override fun getDescription(): String = description
+    }
+}
@@ -0,0 +1,56 @@
+package funding.startreum.domain.project
+
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+internal class ProjectSimilarityIndexTest {
+
+    lateinit var index: ProjectSimilarityIndex
+
+    @BeforeEach
+    fun setUp() {
+        index = ProjectSimilarityIndex()
+        index.upsert(1, "스마트 로봇 키트", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트입니다.")
+        index.upsert(2, "스마트 로봇 키트 2", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트 두 번째 버전입니다.")
+        index.upsert(3, "수제 원두 커피", "<p>매일 아침 직접 로스팅한 싱글 오리진 원두를 보내드립니다.</p>")
+    }
+
+    @Test
+    @DisplayName("내용이 비슷한 프로젝트만 후보로 반환하고 자기 자신은 제외")
+    fun findsNearDuplicates() {
+        val result = index.similar(1, 5)
+
+        assertThat(result.map { it.projectId }).containsExactly(2)
+        assertThat(result[0].title).isEqualTo("스마트 로봇 키트 2")
+        assertThat(result[0].similarity).isGreaterThan(0.5)
+    }
+
+    @Test
+    @DisplayName("수정하면 버킷이 다시 계산되고, 삭제하면 더 이상 추천되지 않음")
+    fun reindexesOnChange() {
+        index.upsert(3, "스마트 로봇 키트 3", "아이들과 함께 조립하는 코딩 교육용 스마트 로봇 키트 세 번째 버전입니다.")
+        assertThat(index.similar(1, 5).map { it.projectId }).contains(2, 3)
+
+        index.remove(2)
+        assertThat(index.similar(1, 5).map { it.projectId }).containsExactly(3)
+        assertThat(index.similar(2, 5)).isEmpty()
+    }
+
+    @Test
+    @DisplayName("MinHash 추정값은 실제 자카드 유사도에 가까움")
+    fun estimateTracksJaccard() {
+        val a = "가나다라마바사아자차카타파하 abcdefghijklmnop"
+        val b = "가나다라마바사아자차카타파하 abcdefgh 12345678"
+        val shinglesA = ProjectSimilarityIndex.shingles(a)
+        val shinglesB = ProjectSimilarityIndex.shingles(b)
+        val jaccard = shinglesA.intersect(shinglesB).size.toDouble() / shinglesA.union(shinglesB).size
+
+        val estimate = ProjectSimilarityIndex.estimate(
+            ProjectSimilarityIndex.signature(a), ProjectSimilarityIndex.signature(b)
+        )
+
+        assertThat(estimate).isBetween(jaccard - 0.15, jaccard + 0.15)
+    }
+}
@@ -0,0 +1,89 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.ProjectSortIndex.Ranked
+import funding.startreum.domain.project.ProjectSortIndex.SortOrder
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.time.LocalDateTime
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+import kotlin.concurrent.thread
+
+internal class ProjectSortIndexTest {
+
+    lateinit var index: ProjectSortIndex
+    private val now: LocalDateTime = LocalDateTime.of(2025, 3, 1, 12, 0)
+
+    @BeforeEach
+    fun setUp() {
+        index = ProjectSortIndex()
+        index.replaceAll(
+            listOf(
+                Ranked.of(1, now.plusDays(3), 0.9, 0.0),
+                Ranked.of(2, now.plusDays(1), 0.2, 0.5),
+                Ranked.of(3, now.plusDays(10), 0.5, 0.1),
+                Ranked.of(4, now.plusDays(1), 1.2, 0.0)
+            ), now
+        )
+    }
+
+    @Test
+    @DisplayName("정렬 기준별 순서 (같은 값이면 ID 큰 순)")
+    fun ordersBySortKey() {
+        assertThat(ids(SortOrder.ENDING_SOON)).containsExactly(4, 2, 1, 3)
+        assertThat(ids(SortOrder.CLOSEST_TO_GOAL)).containsExactly(4, 1, 3, 2)
+        assertThat(ids(SortOrder.TRENDING)).containsExactly(2, 3, 4, 1)
+    }
+
+    @Test
+    @DisplayName("커서 다음부터 페이지를 이어서 조회하고, 사이에 순위가 바뀌어도 중복되지 않음")
+    fun pagesFromPosition() {
+        val first = index.page(SortOrder.CLOSEST_TO_GOAL, null, 2)
+        val position = index.positionOf(SortOrder.CLOSEST_TO_GOAL, first.last())
+
+        index.upsert(3, now.plusDays(10), 2.0)
+        val second = index.page(SortOrder.CLOSEST_TO_GOAL, position, 2)
+
+        assertThat(first.map { it.projectId }).containsExactly(4, 1)
+        assertThat(second.map { it.projectId }).containsExactly(2)
+    }
+
+    @Test
+    @DisplayName("후원은 트렌딩 점수에 더해지고, 오래된 후원일수록 가중치가 작음")
+    fun fundingUpdatesTrending() {
+        index.addFunding(1, 1.0, now)
+        assertThat(ids(SortOrder.TRENDING).first()).isEqualTo(1)
+
+        index.addFunding(3, 1.0, now.minusHours(48))
+        assertThat(ids(SortOrder.TRENDING)).containsExactly(1, 2, 3, 4)
+
+        index.remove(1)
+        assertThat(ids(SortOrder.TRENDING)).containsExactly(2, 3, 4)
+        assertThat(ProjectSortIndex.decayWeight(now.minusHours(24), now)).isEqualTo(0.5)
+    }
+
+    @Test
+    @DisplayName("전체 교체 중에도 조회는 빈 페이지나 일부 페이지를 보지 않음")
+    fun replaceAllIsAtomicForReaders() {
+        val entries = (1..2_000).map { Ranked.of(it, now.plusDays(it.toLong()), it / 2_000.0, 0.0) }
+        index.replaceAll(entries, now)
+
+        val stop = AtomicBoolean()
+        val shortPages = AtomicInteger()
+        val reader = thread {
+            while (!stop.get()) {
+                if (index.page(SortOrder.ENDING_SOON, null, 10).size < 10) shortPages.incrementAndGet()
+            }
+        }
+        repeat(50) { index.replaceAll(entries, now) }
+        stop.set(true)
+        reader.join()
+
+        assertThat(shortPages.get()).isZero()
+        assertThat(index.size()).isEqualTo(2_000)
+    }
+
+    private fun ids(order: SortOrder) = index.page(order, null, 10).map { it.projectId }
+}
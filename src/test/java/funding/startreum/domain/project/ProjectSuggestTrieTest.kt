@@ -0,0 +1,82 @@
+package funding.startreum.domain.project
+
+import funding.startreum.domain.project.ProjectSuggestTrie.Suggestion
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import java.util.Random
+
+internal class ProjectSuggestTrieTest {
+
+    lateinit var trie: ProjectSuggestTrie
+
+    @BeforeEach
+    fun setUp() {
+        trie = ProjectSuggestTrie(3)
+        trie.replaceAll(
+            listOf(
+                Suggestion(1, "스마트 로봇 키트", 0.1),
+                Suggestion(2, "스마트 화분", 0.5),
+                Suggestion(3, "Smart Watch", 0.3),
+                Suggestion(4, "로봇 청소기", 0.9)
+            )
+        )
+    }
+
+    @Test
+    @DisplayName("접두어로 시작하는 단어가 있는 제목을 점수 순으로 반환")
+    fun suggestByPrefix() {
+        val result = trie.suggest("스마", 10)
+
+        assertThat(result.map { it.projectId }).containsExactly(2, 1)
+    }
+
+    @Test
+    @DisplayName("제목 중간 단어와 대소문자 구분 없이 조회")
+    fun suggestByInnerWordIgnoringCase() {
+        assertThat(trie.suggest("로봇", 10).map { it.projectId }).containsExactly(4, 1)
+        assertThat(trie.suggest("WAT", 10).map { it.projectId }).containsExactly(3)
+    }
+
+    @Test
+    @DisplayName("노드별 상위 K개만 유지")
+    fun keepsOnlyTopK() {
+        trie.upsert(Suggestion(5, "스마트 조명", 0.7))
+        trie.upsert(Suggestion(6, "스마트 거울", 0.8))
+
+        assertThat(trie.suggest("스", 10).map { it.projectId }).containsExactly(6, 5, 2)
+    }
+
+    @Test
+    @DisplayName("점수/제목 갱신과 제거가 상위 후보에 반영")
+    fun upsertAndRemove() {
+        trie.upsert(Suggestion(1, "스마트 로봇 키트", 1.0))
+        assertThat(trie.suggest("스마", 10).map { it.projectId }).containsExactly(1, 2)
+
+        trie.upsert(Suggestion(2, "화분 키우기", 0.5))
+        assertThat(trie.suggest("스마", 10).map { it.projectId }).containsExactly(1)
+
+        trie.remove(1)
+        assertThat(trie.suggest("스마", 10)).isEmpty()
+        assertThat(trie.suggest("로봇", 10).map { it.projectId }).containsExactly(4)
+        assertThat(trie.size()).isEqualTo(3)
+    }
+
+    @Test
+    @DisplayName("전체 교체로 만든 색인은 하나씩 추가한 색인과 같은 후보를 반환")
+    fun replaceAllMatchesIncrementalUpserts() {
+        val random = Random(42)
+        val words = listOf("스마트", "로봇", "키트", "화분", "조명", "smart", "watch", "스마일")
+        val suggestions = (1..300).map { id ->
+            Suggestion(id, (1..3).joinToString(" ") { words[random.nextInt(words.size)] }, random.nextInt(50) / 10.0)
+        }
+
+        val rebuilt = ProjectSuggestTrie(5).apply { replaceAll(suggestions) }
+        val incremental = ProjectSuggestTrie(5).apply { suggestions.forEach { upsert(it) } }
+
+        listOf("스", "스마", "스마트 로", "로봇", "sm", "watch s", "키트").forEach { prefix ->
+            assertThat(rebuilt.suggest(prefix, 5)).`as`(prefix).isEqualTo(incremental.suggest(prefix, 5))
+        }
+    }
+}
@@ -15,6 +15,7 @@ import org.junit.jupiter.api.Test
 import org.junit.jupiter.api.extension.ExtendWith
 import org.mockito.*
 import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.context.ApplicationEventPublisher
 import java.math.BigDecimal
 import java.time.LocalDateTime
 import java.util.Optional
@@ -34,6 +35,9 @@ class ProjectServiceTest {
     @Mock
     private lateinit var jwtUtil: JwtUtil
 
+    @Mock
+    private lateinit var eventPublisher: ApplicationEventPublisher
+
     @InjectMocks
     private lateinit var projectService: ProjectService
 
@@ -2,6 +2,7 @@ package funding.startreum.domain.reward.controller
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import funding.startreum.common.config.SecurityConfig
+import funding.startreum.common.util.JwtUtil
 import funding.startreum.domain.reward.dto.request.RewardRequest
 import funding.startreum.domain.reward.dto.request.RewardUpdateRequest
 import funding.startreum.domain.reward.dto.response.RewardResponse
@@ -47,6 +48,9 @@ class RewardRestControllerTest {
     @MockitoBean
     lateinit var customUserDetailsService: CustomUserDetailsService
 
+    @MockitoBean
+    lateinit var jwtUtil: JwtUtil
+
     private val BASE_URL = "/api/reward"
 
     @Nested
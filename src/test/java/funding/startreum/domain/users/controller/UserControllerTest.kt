@@ -7,9 +7,9 @@ import funding.startreum.domain.users.dto.LoginRequest
 import funding.startreum.domain.users.dto.SignupRequest
 import funding.startreum.domain.users.dto.UserResponse
 import funding.startreum.domain.users.entity.User
-import funding.startreum.domain.users.repository.RefreshTokenRepository
 import funding.startreum.domain.users.service.MyFundingService
 import funding.startreum.domain.users.service.MyProjectService
+import funding.startreum.domain.users.service.RefreshTokenStore
 import funding.startreum.domain.users.service.UserService
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.Test
@@ -54,7 +54,7 @@ class UserControllerTest {
     private lateinit var myProjectService: MyProjectService
 
     @MockitoBean
-    private lateinit var refreshTokenRepository: RefreshTokenRepository
+    private lateinit var refreshTokenStore: RefreshTokenStore
 
     @BeforeEach
     fun setup() {
@@ -85,19 +85,14 @@ class UserControllerTest {
     @Test
     fun `로그인 성공`() {
         val request = LoginRequest("testUser", "password123")
-        val userResponse = UserResponse(
-            name = "testUser",
-            email = "test@example.com",
-            role = User.Role.SPONSOR, // ✅ 존재하는 값 사용
-            createdAt = LocalDateTime.now(),
-            updatedAt = LocalDateTime.now()
-        )
+        val user = User("testUser", "test@example.com", "encoded", User.Role.SPONSOR, LocalDateTime.now(), LocalDateTime.now())
+        user.userId = 1
         val accessToken = "access-token"
         val refreshToken = "refresh-token"
 
-        `when`(userService.authenticateUser(request.name, request.password)).thenReturn(userResponse)
-        `when`(jwtUtil.generateAccessToken(userResponse.name, userResponse.email, userResponse.role?.name ?: "USER")).thenReturn(accessToken)
-        `when`(jwtUtil.generateRefreshToken(userResponse.name)).thenReturn(refreshToken)
+        `when`(userService.authenticate(request.name, request.password)).thenReturn(user)
+        `when`(jwtUtil.generateAccessToken(user.name, user.email, user.role.name, user.userId, user.tokenVersion)).thenReturn(accessToken)
+        `when`(jwtUtil.generateRefreshToken(user.name)).thenReturn(refreshToken)
 
         mockMvc.perform(post("/api/users/login")
             .contentType(MediaType.APPLICATION_JSON)
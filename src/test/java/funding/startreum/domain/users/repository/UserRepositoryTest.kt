@@ -0,0 +1,113 @@
+package funding.startreum.domain.users.repository
+
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.service.NormalizedNameBackfill
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.beans.factory.annotation.Autowired
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager
+import org.springframework.jdbc.core.JdbcTemplate
+import org.springframework.transaction.annotation.Propagation
+import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+
+@DataJpaTest
+internal class UserRepositoryTest {
+
+    @Autowired
+    lateinit var userRepository: UserRepository
+
+    @Autowired
+    lateinit var entityManager: TestEntityManager
+
+    @Autowired
+    lateinit var jdbcTemplate: JdbcTemplate
+
+    @Autowired
+    lateinit var transactionTemplate: TransactionTemplate
+
+    private lateinit var alice: User
+
+    @BeforeEach
+    fun setUp() {
+        // 트랜잭션 없이 실행하는 테스트도 있으므로 리포지토리로 저장
+        alice = userRepository.saveAndFlush(User().apply {
+            name = "Alice"
+            email = "alice@test.com"
+        })
+    }
+
+    @Test
+    @DisplayName("이름 조회/중복 확인은 대소문자를 무시")
+    fun findByNameIgnoresCase() {
+        assertThat(userRepository.findByName("aLICE")).get().extracting("userId").isEqualTo(alice.userId)
+        assertThat(userRepository.existsByName("ALICE")).isTrue()
+        assertThat(userRepository.existsByName("bob")).isFalse()
+    }
+
+    @Test
+    @DisplayName("이름을 바꾸면 소문자 이름 컬럼도 함께 갱신")
+    fun renameUpdatesNormalizedName() {
+        val user = entityManager.find(User::class.java, alice.userId)
+        user.name = "AliceKim"
+        entityManager.flush()
+        entityManager.clear()
+
+        assertThat(entityManager.find(User::class.java, alice.userId).normalizedName).isEqualTo("alicekim")
+        assertThat(userRepository.existsByName("alice")).isFalse()
+        assertThat(userRepository.existsByName("ALICEKIM")).isTrue()
+    }
+
+    @Test
+    @DisplayName("소문자 이름 컬럼이 비어 있는 기존 행을 백필")
+    fun backfillFillsMissingNormalizedNames() {
+        toLegacy(alice.userId, "Alice") // 컬럼이 생기기 전에 가입한 사용자
+        assertThat(userRepository.existsByName("alice")).isFalse()
+
+        val result = NormalizedNameBackfill(userRepository).backfill()
+        entityManager.clear()
+
+        assertThat(result).isEqualTo(NormalizedNameBackfill.Result(1, emptyList()))
+        assertThat(userRepository.findByName("ALICE")).get().extracting("normalizedName").isEqualTo("alice")
+        assertThat(NormalizedNameBackfill(userRepository).backfill().updated).isZero()
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 행마다 커밋되는 실제 동작 그대로
+    @DisplayName("대소문자만 다른 이름이 있으면 그 행만 남기고 나머지는 백필")
+    fun backfillSkipsConflictingRows() {
+        try {
+            val aliceUpper = legacyUser("ALICE", "alice2@test.com")
+            legacyUser("Bob", "bob@test.com")
+
+            val result = NormalizedNameBackfill(userRepository).backfill()
+
+            assertThat(result).isEqualTo(NormalizedNameBackfill.Result(1, listOf(aliceUpper)))
+            assertThat(userRepository.existsByName("bob")).isTrue()
+            assertThat(userRepository.findByName("alice")).get().extracting("userId").isEqualTo(alice.userId)
+        } finally {
+            userRepository.deleteAll()
+        }
+    }
+
+    /**
+     * normalized_name 컬럼이 생기기 전에 가입한 사용자를 만들고 ID를 반환
+     */
+    private fun legacyUser(name: String, email: String): Int {
+        val user = userRepository.saveAndFlush(User().apply {
+            this.name = "legacy-$email"
+            this.email = email
+        })
+        toLegacy(user.userId, name)
+        return user.userId
+    }
+
+    private fun toLegacy(userId: Int, name: String) {
+        transactionTemplate.executeWithoutResult {
+            jdbcTemplate.update("UPDATE users SET name = ?, normalized_name = NULL WHERE user_id = ?", name, userId)
+        }
+    }
+}
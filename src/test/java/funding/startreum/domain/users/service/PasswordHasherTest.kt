@@ -0,0 +1,83 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.domain.users.exception.PasswordHashingBusyException
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder
+import org.springframework.security.crypto.password.PasswordEncoder
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
+
+internal class PasswordHasherTest {
+
+    private val meterRegistry = SimpleMeterRegistry()
+    private val release = CountDownLatch(1)
+    private val started = CountDownLatch(1)
+    private val callers = Executors.newFixedThreadPool(2)
+
+    @AfterEach
+    fun tearDown() {
+        release.countDown()
+        callers.shutdownNow()
+    }
+
+    @Test
+    @DisplayName("스레드와 대기열이 모두 차면 기다리지 않고 바로 거절")
+    fun rejectsWhenSaturated() {
+        val hasher = PasswordHasher(BlockingEncoder(), meterRegistry, 1, 1, Duration.ofSeconds(10))
+
+        callers.submit { hasher.encode("first") } // 실행 중
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue()
+        callers.submit { hasher.encode("second") } // 대기열
+        waitUntil { meterRegistry.get("password.hash.queue").gauge().value() == 1.0 }
+
+        val start = System.nanoTime()
+        assertThatThrownBy { hasher.encode("third") }.isInstanceOf(PasswordHashingBusyException::class.java)
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1))
+        assertThat(meterRegistry.get("password.hash.rejected").functionCounter().count()).isEqualTo(1.0)
+    }
+
+    @Test
+    @DisplayName("마감 시간을 넘기면 거절")
+    fun rejectsAfterTimeout() {
+        val hasher = PasswordHasher(BlockingEncoder(), meterRegistry, 1, 1, Duration.ofMillis(100))
+
+        assertThatThrownBy { hasher.encode("slow") }.isInstanceOf(PasswordHashingBusyException::class.java)
+    }
+
+    @Test
+    @DisplayName("설정한 비용보다 낮은 해시는 다시 해시 대상")
+    fun lowerCostNeedsRehash() {
+        val hasher = PasswordHasher(BCryptPasswordEncoder(6), meterRegistry, 1, 4, Duration.ofSeconds(10))
+        val oldHash = BCryptPasswordEncoder(4).encode("password")
+
+        assertThat(hasher.matches("password", oldHash)).isTrue()
+        assertThat(hasher.needsRehash(oldHash)).isTrue()
+        assertThat(hasher.needsRehash(hasher.encode("password"))).isFalse()
+    }
+
+    private fun waitUntil(condition: () -> Boolean) {
+        val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5)
+        while (!condition() && System.nanoTime() < deadline) {
+            Thread.sleep(10)
+        }
+        assertThat(condition()).isTrue()
+    }
+
+    private inner class BlockingEncoder : PasswordEncoder {
+        override fun encode(rawPassword: CharSequence): String {
+            started.countDown()
+            release.await()
+            return rawPassword.toString()
+        }
+
+        override fun matches(rawPassword: CharSequence, encodedPassword: String): Boolean =
+            rawPassword.toString() == encodedPassword
+    }
+}
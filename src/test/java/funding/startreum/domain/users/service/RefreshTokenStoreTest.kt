@@ -0,0 +1,109 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.common.cache.TimingWheel
+import funding.startreum.domain.users.entity.RefreshToken
+import funding.startreum.domain.users.repository.RefreshTokenRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.ArgumentMatchers.any
+import org.mockito.ArgumentMatchers.anyString
+import org.mockito.Mock
+import org.mockito.Mockito.never
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import java.time.Duration
+import java.util.Date
+
+@ExtendWith(MockitoExtension::class)
+internal class RefreshTokenStoreTest {
+
+    @Mock
+    private lateinit var repository: RefreshTokenRepository
+
+    private lateinit var store: RefreshTokenStore
+    private var nextId = 1L
+
+    @BeforeEach
+    fun setUp() {
+        store = RefreshTokenStore(repository, SimpleMeterRegistry(), 100)
+    }
+
+    @Test
+    @DisplayName("원문 대신 64자 해시를 저장하고, 발급한 토큰은 DB 조회 없이 찾음")
+    fun storesHashAndServesFromCache() {
+        val saved = stubSave()
+
+        store.issue("alice", "refresh-token", Date(System.currentTimeMillis() + 60_000))
+
+        assertThat(saved.single().tokenHash).hasSize(64).isNotEqualTo("refresh-token")
+        assertThat(store.find("refresh-token")?.username).isEqualTo("alice")
+        verify(repository, never()).findByTokenHash(anyString())
+    }
+
+    @Test
+    @DisplayName("재발급하면 기존 토큰은 한 번만 사용 가능")
+    fun rotationConsumesOldToken() {
+        stubSave()
+        store.issue("alice", "old", Date(System.currentTimeMillis() + 60_000))
+        `when`(repository.deleteByTokenHash(anyString())).thenReturn(1, 0)
+
+        assertThat(store.rotate("old", "new", Date(System.currentTimeMillis() + 60_000))).isNotNull
+        assertThat(store.rotate("old", "newer", Date(System.currentTimeMillis() + 60_000))).isNull()
+        assertThat(store.find("new")?.username).isEqualTo("alice")
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 찾지 못함")
+    fun expiredTokenIsRejected() {
+        stubSave()
+        store.issue("alice", "expired", Date(System.currentTimeMillis() - 1))
+        `when`(repository.deleteByTokenHash(anyString())).thenReturn(1)
+
+        assertThat(store.find("expired")).isNull()
+    }
+
+    @Test
+    @DisplayName("로그인 시 사용자의 토큰을 모두 폐기하고 캐시에서도 지움")
+    fun revokeAllClearsCache() {
+        stubSave()
+        store.issue("alice", "token", Date(System.currentTimeMillis() + 60_000))
+
+        store.revokeAll("alice")
+
+        assertThat(store.size()).isZero()
+        assertThat(store.find("token")).isNull()
+        verify(repository).deleteByUsername("alice")
+    }
+
+    @Test
+    @DisplayName("타이밍 휠은 만료 tick이 지난 항목만 꺼냄 (한 바퀴 넘는 만료 포함)")
+    fun timingWheelExpiresInOrder() {
+        var now = 0L
+        val wheel = TimingWheel<Int>(Duration.ofMinutes(1), 4) { now }
+        wheel.schedule(1, 30_000)
+        wheel.schedule(2, 5 * 60_000) // 한 바퀴(4분)보다 멂
+
+        now = 60_000
+        assertThat(wheel.advance()).containsExactly(1)
+        now = 4 * 60_000
+        assertThat(wheel.advance()).isEmpty()
+        now = 5 * 60_000
+        assertThat(wheel.advance()).containsExactly(2)
+        assertThat(wheel.size()).isZero()
+    }
+
+    private fun stubSave(): List<RefreshToken> {
+        val saved = mutableListOf<RefreshToken>()
+        `when`(repository.save(any<RefreshToken>())).thenAnswer {
+            val token = it.getArgument<RefreshToken>(0)
+            saved.add(token)
+            RefreshToken(nextId++, token.tokenHash, token.username, token.expiryDate)
+        }
+        return saved
+    }
+}
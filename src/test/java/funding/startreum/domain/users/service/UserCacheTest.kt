@@ -0,0 +1,97 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.domain.users.entity.User
+import funding.startreum.domain.users.event.UserChangedEvent
+import funding.startreum.domain.users.event.UserChangedEvent.ChangeType
+import funding.startreum.domain.users.repository.UserRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.Mockito.lenient
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.security.core.userdetails.User as SecurityUser
+import java.time.LocalDateTime
+import java.util.Optional
+
+@ExtendWith(MockitoExtension::class)
+internal class UserCacheTest {
+
+    @Mock
+    private lateinit var userRepository: UserRepository
+
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private lateinit var userCache: UserCache
+    private lateinit var user: User
+
+    @BeforeEach
+    fun setUp() {
+        meterRegistry = SimpleMeterRegistry()
+        userCache = UserCache(userRepository, meterRegistry)
+        user = User("Alice", "alice@test.com", "encoded", User.Role.SPONSOR, LocalDateTime.now(), LocalDateTime.now())
+            .apply { userId = 7 }
+        lenient().`when`(userRepository.findById(7)).thenAnswer { Optional.of(user) }
+    }
+
+    @Test
+    @DisplayName("이름은 대소문자를 무시하고 ID만 캐시, 이후에는 PK로 조회")
+    fun cachesIdByNormalizedName() {
+        `when`(userRepository.findByName("Alice")).thenReturn(Optional.of(user))
+
+        assertThat(userCache.findByName("Alice")).isSameAs(user)
+        assertThat(userCache.findByName("ALICE")).isSameAs(user)
+        assertThat(userCache.findByName("alice")).isSameAs(user)
+
+        verify(userRepository, times(1)).findByName("Alice")
+        verify(userRepository, times(2)).findById(7)
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "userIds").tag("result", "hit").functionCounter().count())
+            .isEqualTo(2.0)
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 캐시하지 않음")
+    fun missingUserIsNotCached() {
+        `when`(userRepository.findByName("bob")).thenReturn(Optional.empty())
+
+        assertThat(userCache.findByName("bob")).isNull()
+        assertThat(userCache.findByName("bob")).isNull()
+
+        verify(userRepository, times(2)).findByName("bob")
+    }
+
+    @Test
+    @DisplayName("이메일 변경 이벤트를 받으면 이전 이메일과 UserDetails를 비움")
+    fun emailChangeInvalidates() {
+        `when`(userRepository.findByEmail("alice@test.com")).thenReturn(Optional.of(user))
+        assertThat(userCache.findByEmail("alice@test.com")).isSameAs(user)
+        userCache.userDetails("Alice") { details("old") }
+
+        user.email = "new@test.com"
+        userCache.onUserChanged(UserChangedEvent(7, "Alice", "new@test.com", "alice@test.com", ChangeType.EMAIL))
+        `when`(userRepository.findByEmail("alice@test.com")).thenReturn(Optional.empty())
+
+        assertThat(userCache.findByEmail("alice@test.com")).isNull()
+        assertThat(userCache.userDetails("alice") { details("new") }.password).isEqualTo("new")
+    }
+
+    @Test
+    @DisplayName("이벤트 없이 바뀐 행은 키와 맞지 않으면 버리고 다시 조회")
+    fun staleIdIsReloaded() {
+        `when`(userRepository.findByEmail("alice@test.com")).thenReturn(Optional.of(user))
+        userCache.findByEmail("alice@test.com")
+
+        user.email = "other@test.com" // 다른 서버에서 변경
+        `when`(userRepository.findByEmail("alice@test.com")).thenReturn(Optional.empty())
+
+        assertThat(userCache.findByEmail("alice@test.com")).isNull()
+    }
+
+    private fun details(password: String) =
+        SecurityUser.withUsername("Alice").password(password).authorities("ROLE_SPONSOR").build()
+}
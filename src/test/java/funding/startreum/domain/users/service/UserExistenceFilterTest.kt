@@ -0,0 +1,77 @@
+package funding.startreum.domain.users.service
+
+import funding.startreum.common.cache.BloomFilter
+import funding.startreum.domain.users.repository.UserRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+
+@ExtendWith(MockitoExtension::class)
+internal class UserExistenceFilterTest {
+
+    @Mock
+    private lateinit var userRepository: UserRepository
+
+    private lateinit var meterRegistry: SimpleMeterRegistry
+    private lateinit var filter: UserExistenceFilter
+
+    @BeforeEach
+    fun setUp() {
+        meterRegistry = SimpleMeterRegistry()
+        filter = UserExistenceFilter(userRepository, meterRegistry)
+    }
+
+    @Test
+    @DisplayName("Bloom 필터는 넣은 값을 놓치지 않고, 오탐률은 목표 근처")
+    fun bloomFilterHasNoFalseNegatives() {
+        val bloom = BloomFilter(10_000, 0.01)
+        repeat(10_000) { bloom.add("user-$it") }
+
+        assertThat((0 until 10_000).all { bloom.mightContain("user-$it") }).isTrue()
+        val falsePositives = (0 until 10_000).count { bloom.mightContain("other-$it") }
+        assertThat(falsePositives).isLessThan(300)
+    }
+
+    @Test
+    @DisplayName("구성 전에는 항상 DB로 확인")
+    fun beforeRebuildEverythingMightExist() {
+        assertThat(filter.mightContainName("anyone")).isTrue()
+        assertThat(filter.mightContainEmail("anyone@test.com")).isTrue()
+    }
+
+    @Test
+    @DisplayName("기존 이름/이메일은 대소문자 무시로 있을 수 있음, 없는 값은 DB 없이 false")
+    fun answersFromFilter() {
+        `when`(userRepository.count()).thenReturn(2L)
+        `when`(userRepository.findAllNames()).thenReturn(listOf("Alice", "bob"))
+        `when`(userRepository.findAllEmails()).thenReturn(listOf("Alice@Test.com", "bob@test.com"))
+        filter.rebuild()
+
+        assertThat(filter.mightContainName("alice")).isTrue()
+        assertThat(filter.mightContainEmail("alice@test.com")).isTrue()
+        assertThat(filter.mightContainName("carol")).isFalse()
+        assertThat(filter.mightContainEmail("carol@test.com")).isFalse()
+        assertThat(meterRegistry.get("user.exists.skipped").functionCounter().count()).isEqualTo(2.0)
+    }
+
+    @Test
+    @DisplayName("가입/이메일 변경으로 추가한 값은 바로 반영")
+    fun addedValuesAreVisible() {
+        `when`(userRepository.count()).thenReturn(0L)
+        `when`(userRepository.findAllNames()).thenReturn(emptyList())
+        `when`(userRepository.findAllEmails()).thenReturn(emptyList())
+        filter.rebuild()
+
+        filter.addName("Carol")
+        filter.addEmail("carol@test.com")
+
+        assertThat(filter.mightContainName("carol")).isTrue()
+        assertThat(filter.mightContainEmail("carol@test.com")).isTrue()
+    }
+}
@@ -2,6 +2,7 @@ package funding.startreum.domain.virtualaccount.controller
 
 import com.fasterxml.jackson.databind.ObjectMapper
 import funding.startreum.common.config.SecurityConfig
+import funding.startreum.common.util.JwtUtil
 import funding.startreum.domain.users.service.CustomUserDetailsService
 import funding.startreum.domain.virtualaccount.dto.VirtualAccountDtos
 import funding.startreum.domain.virtualaccount.dto.request.AccountPaymentRequest
@@ -61,6 +62,9 @@ class VirtualAccountRestControllerTest {
     @MockitoBean
     lateinit var customUserDetailsService: CustomUserDetailsService
 
+    @MockitoBean
+    lateinit var jwtUtil: JwtUtil
+
     @MockitoBean(name = "accountSecurity")
     lateinit var accountSecurity: AccountSecurity
 
@@ -0,0 +1,66 @@
+package funding.startreum.domain.virtualaccount.security
+
+import funding.startreum.domain.virtualaccount.exception.AccountNotFoundException
+import funding.startreum.domain.virtualaccount.repository.VirtualAccountRepository
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry
+import org.assertj.core.api.Assertions.assertThat
+import org.assertj.core.api.Assertions.assertThatThrownBy
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.extension.ExtendWith
+import org.mockito.Mock
+import org.mockito.Mockito.times
+import org.mockito.Mockito.verify
+import org.mockito.Mockito.verifyNoMoreInteractions
+import org.mockito.Mockito.`when`
+import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.security.access.AccessDeniedException
+import org.springframework.security.core.userdetails.User
+
+@ExtendWith(MockitoExtension::class)
+internal class AccountSecurityTest {
+
+    @Mock
+    private lateinit var repository: VirtualAccountRepository
+
+    private lateinit var accountSecurity: AccountSecurity
+
+    @BeforeEach
+    fun setUp() {
+        accountSecurity = AccountSecurity(repository, SimpleMeterRegistry())
+    }
+
+    @Test
+    @DisplayName("소유자 이름 쿼리 한 번으로 확인하고, 이후에는 캐시 사용")
+    fun ownerIsResolvedOnce() {
+        `when`(repository.findOwnerNameByAccountId(1)).thenReturn("Alice")
+
+        assertThat(accountSecurity.isAccountOwner(principal("alice"), 1)).isTrue()
+        assertThat(accountSecurity.isAccountOwner(principal("Alice"), 1)).isTrue()
+
+        verify(repository, times(1)).findOwnerNameByAccountId(1)
+        verifyNoMoreInteractions(repository)
+    }
+
+    @Test
+    @DisplayName("다른 사용자의 계좌면 접근 거부")
+    fun otherUserIsDenied() {
+        `when`(repository.findOwnerNameByAccountId(1)).thenReturn("Alice")
+
+        assertThatThrownBy { accountSecurity.isAccountOwner(principal("bob"), 1) }
+            .isInstanceOf(AccessDeniedException::class.java)
+    }
+
+    @Test
+    @DisplayName("없는 계좌는 AccountNotFoundException")
+    fun missingAccount() {
+        `when`(repository.findOwnerNameByAccountId(9)).thenReturn(null)
+
+        assertThatThrownBy { accountSecurity.isAccountOwner(principal("alice"), 9) }
+            .isInstanceOf(AccountNotFoundException::class.java)
+    }
+
+    private fun principal(name: String) =
+        User.withUsername(name).password("").authorities("ROLE_SPONSOR").build()
+}
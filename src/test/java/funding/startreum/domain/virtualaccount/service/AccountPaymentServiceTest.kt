@@ -21,6 +21,7 @@ import org.mockito.BDDMockito.given
 import org.mockito.InjectMocks
 import org.mockito.Mock
 import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.context.ApplicationEventPublisher
 import java.math.BigDecimal
 import java.time.LocalDateTime
 
@@ -39,6 +40,9 @@ internal class AccountPaymentServiceTest {
     @Mock
     lateinit var accountQueryService: AccountQueryService
 
+    @Mock
+    lateinit var eventPublisher: ApplicationEventPublisher
+
     @InjectMocks
     lateinit var accountPaymentService: AccountPaymentService
 
@@ -19,6 +19,7 @@ import org.mockito.InjectMocks
 import org.mockito.Mock
 import org.mockito.Mockito.*
 import org.mockito.junit.jupiter.MockitoExtension
+import org.springframework.context.ApplicationEventPublisher
 import java.math.BigDecimal
 import java.time.LocalDateTime
 import org.mockito.kotlin.any
@@ -38,6 +39,9 @@ internal class AccountRefundServiceTest {
     @Mock
     lateinit var projectRepository: ProjectRepository
 
+    @Mock
+    lateinit var eventPublisher: ApplicationEventPublisher
+
     @InjectMocks
     lateinit var accountRefundService: AccountRefundService
 